@@ -0,0 +1,64 @@
+package org.text.algorithm.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.text.algorithm.trie.impl.DoubleArrayTrie;
+import org.text.algorithm.trie.impl.DoubleArrayTrieBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DoubleArrayTrieBuilder.build 的吞吐量, 每次构建都用新的 builder.
+ * 并行构建的加速比在多核机器上用 -Djmh.args="BuildBenchmark.build -p parallelism=1,8,16,32" 测量
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BuildBenchmark {
+    @Param({Corpus.DICTIONARY, Corpus.SYNTHETIC})
+    public String corpus;
+
+    /**
+     * 传给 setParallelism, 1 为顺序构建
+     */
+    @Param({"1"})
+    public int parallelism;
+
+    private List<String> keys;
+
+    @Setup
+    public void setup() {
+        keys = Corpus.keys(corpus);
+    }
+
+    @Benchmark
+    public DoubleArrayTrie build() {
+        DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+        builder.setParallelism(parallelism);
+        builder.build(keys);
+        return builder.toTrie();
+    }
+
+    @Benchmark
+    public DoubleArrayTrie buildTailCompressed() {
+        DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+        builder.setTailCompression(true);
+        builder.setAlphabetRemap(true);
+        builder.setParallelism(parallelism);
+        builder.build(keys);
+        return builder.toTrie();
+    }
+}
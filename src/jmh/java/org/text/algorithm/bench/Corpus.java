@@ -0,0 +1,112 @@
+package org.text.algorithm.bench;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * 基准测试用的词表和文本, 随机数种子固定, 每次运行的数据相同
+ * <ul>
+ * <li>dictionary: 测试资源中的四十万汉语大词库</li>
+ * <li>synthetic: 10 万个随机词, 长度 2 到 6, 字符取自 3000 个汉字, 公共前缀比真实词典少得多</li>
+ * </ul>
+ */
+final class Corpus {
+    static final String DICTIONARY = "dictionary";
+    static final String SYNTHETIC = "synthetic";
+
+    private static final String DICTIONARY_RESOURCE = "/四十万汉语大词库.txt";
+    private static final int SYNTHETIC_WORDS = 100000;
+    private static final int SYNTHETIC_CHARS = 3000;
+
+    private Corpus() {
+    }
+
+    /**
+     * 排序去重后的词表
+     * @param corpus DICTIONARY 或 SYNTHETIC
+     * @return
+     */
+    static List<String> keys(String corpus) {
+        TreeSet<String> keys = new TreeSet<>();
+        if (DICTIONARY.equals(corpus)) {
+            try (InputStream in = Corpus.class.getResourceAsStream(DICTIONARY_RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException("missing resource " + DICTIONARY_RESOURCE);
+                }
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty()) {
+                        keys.add(line);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else if (SYNTHETIC.equals(corpus)) {
+            Random random = new Random(19);
+            while (keys.size() < SYNTHETIC_WORDS) {
+                char[] word = new char[2 + random.nextInt(5)];
+                for (int i = 0; i < word.length; i++) {
+                    word[i] = randomChar(random);
+                }
+                keys.add(new String(word));
+            }
+        } else {
+            throw new IllegalArgumentException("unknown corpus: " + corpus);
+        }
+        return new ArrayList<>(keys);
+    }
+
+    /**
+     * 待匹配的文本: 一半是词表中的词, 一半是随机字符
+     * @param keys
+     * @param length 字符数
+     * @return
+     */
+    static String text(List<String> keys, int length) {
+        Random random = new Random(20);
+        StringBuilder sb = new StringBuilder(length + 16);
+        while (sb.length() < length) {
+            if (random.nextBoolean()) {
+                sb.append(keys.get(random.nextInt(keys.size())));
+            } else {
+                sb.append(randomChar(random));
+            }
+        }
+        sb.setLength(length);
+        return sb.toString();
+    }
+
+    /**
+     * 精确查询用的 key: 一半在词表中, 一半是把最后一个字符换掉的词, 大多不在词表中
+     * @param keys
+     * @param count 2 的幂
+     * @return
+     */
+    static String[] queries(List<String> keys, int count) {
+        Random random = new Random(21);
+        String[] queries = new String[count];
+        for (int i = 0; i < count; i++) {
+            String key = keys.get(random.nextInt(keys.size()));
+            if ((i & 1) != 0) {
+                key = key.substring(0, key.length() - 1) + randomChar(random);
+            }
+            queries[i] = key;
+        }
+        return queries;
+    }
+
+    private static char randomChar(Random random) {
+        return (char) ('一' + random.nextInt(SYNTHETIC_CHARS));
+    }
+}
@@ -0,0 +1,153 @@
+package org.text.algorithm.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.text.algorithm.HitBuffer;
+import org.text.algorithm.SubMatcher;
+import org.text.algorithm.trie.Trie.TrieResult;
+import org.text.algorithm.trie.impl.DoubleArrayTrie;
+import org.text.algorithm.trie.impl.DoubleArrayTrieBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 查询路径的吞吐量. 精确查询和前缀查询每次取下一个 key, 一半命中一半不命中;
+ * matchAll 每次扫描一段 4096 字符的文本. 结果都作为返回值交给 JMH, 不会被当作死代码消除.
+ * 用 -prof gc 可以看到每次调用分配的字节数: 写入 HitBuffer 的 matchAll 直接在 char[] 上扫描, 不创建匹配器,
+ * HitBuffer 在第一次调用后容量已经够用, 和复用的 newMatcher 一样为 0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class MatchBenchmark {
+    private static final int TEXT_LENGTH = 4096;
+    private static final int QUERY_COUNT = 4096;
+
+    @Param({Corpus.DICTIONARY, Corpus.SYNTHETIC})
+    public String corpus;
+
+    private DoubleArrayTrie trie;
+    private DoubleArrayTrie ahoCorasick;
+    private DoubleArrayTrie bloom;
+    private String[] queries;
+    private String text;
+    private char[] chars;
+    private int[] values;
+    private HitBuffer hits;
+    private SubMatcher matcher;
+    private int next;
+
+    @Setup
+    public void setup() {
+        List<String> keys = Corpus.keys(corpus);
+        DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+        builder.build(keys);
+        trie = builder.toTrie();
+        builder = new DoubleArrayTrieBuilder();
+        builder.build(keys);
+        ahoCorasick = builder.toTrie();
+        ahoCorasick.buildAhoCorasick();
+        builder = new DoubleArrayTrieBuilder();
+        builder.setBloomFilter(0.01);
+        builder.build(keys);
+        bloom = builder.toTrie();
+
+        queries = Corpus.queries(keys, QUERY_COUNT);
+        text = Corpus.text(keys, TEXT_LENGTH);
+        chars = text.toCharArray();
+        values = new int[QUERY_COUNT];
+        hits = new HitBuffer(TEXT_LENGTH);
+        matcher = trie.newMatcher(text, (off, len, value) -> true);
+    }
+
+    private String nextQuery() {
+        return queries[next++ & (QUERY_COUNT - 1)];
+    }
+
+    @Benchmark
+    public int exactMatchSearch() {
+        return trie.exactMatchSearch(nextQuery());
+    }
+
+    /**
+     * 带 1% 误判率的布隆过滤器, 不命中的一半大多不用走双数组
+     */
+    @Benchmark
+    public int exactMatchSearchBloom() {
+        return bloom.exactMatchSearch(nextQuery());
+    }
+
+    /**
+     * 逐个查询全部 QUERY_COUNT 个 key, 和 getBatch 对比
+     */
+    @Benchmark
+    public int getLoop() {
+        int found = 0;
+        for (String query : queries) {
+            if (trie.get(query) >= 0) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 批量查询全部 QUERY_COUNT 个 key
+     */
+    @Benchmark
+    public int getBatch() {
+        return trie.get(queries, values);
+    }
+
+    @Benchmark
+    public List<TrieResult> commonPrefixSearch() {
+        return trie.commonPrefixSearch(nextQuery());
+    }
+
+    /**
+     * 逐个起点匹配, 结果写入 HitBuffer
+     */
+    @Benchmark
+    public int matchAll() {
+        hits.clear();
+        return trie.matchAll(chars, 0, chars.length, hits);
+    }
+
+    /**
+     * 按 Aho-Corasick 链接一遍扫描
+     */
+    @Benchmark
+    public int matchAllAhoCorasick() {
+        hits.clear();
+        return ahoCorasick.matchAll(chars, 0, chars.length, hits);
+    }
+
+    /**
+     * 返回 TrieResult 列表的旧接口, 每个命中分配对象
+     */
+    @Benchmark
+    public List<TrieResult> matchAllList() {
+        return trie.matchAll(text);
+    }
+
+    /**
+     * 同 SpeedTest: 复用同一个匹配器
+     */
+    @Benchmark
+    public int newMatcherMatchAll() {
+        return matcher.matchAll(0);
+    }
+}
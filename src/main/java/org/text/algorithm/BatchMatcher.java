@@ -0,0 +1,263 @@
+package org.text.algorithm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 多文档批量匹配: 多个工作线程共用一个只读的 TextMatcher, 每个线程一个可重复使用的 SubMatcher 和 HitBuffer,
+ * 每次从输入中取一批文档, 逐个匹配后交给 {@link DocumentSink}.
+ * 输入可以是集合也可以是迭代器(例如 Stream.iterator()), 迭代器只在取文档时加锁, 不会整个读入内存.
+ * 匹配期间不能修改 TextMatcher. 统计数据在多次 match 之间累加, 用来估算需要的线程数.
+ */
+public final class BatchMatcher {
+    private final TextMatcher matcher;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private int batchSize = 64;
+
+    private final AtomicLong documents = new AtomicLong();
+    private final AtomicLong chars = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong busyNanos = new AtomicLong();
+    private final AtomicLong elapsedNanos = new AtomicLong();
+
+    /**
+     * 使用公共 ForkJoinPool
+     * @param matcher
+     */
+    public BatchMatcher(TextMatcher matcher) {
+        this(matcher, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * @param matcher
+     * @param executor 执行工作线程的线程池, 由调用者负责关闭
+     * @param parallelism 工作线程个数
+     */
+    public BatchMatcher(TextMatcher matcher, ExecutorService executor, int parallelism) {
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("parallelism: " + parallelism);
+        this.matcher = matcher;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 工作线程每次从输入中取的文档个数, 默认 64. 文档很短时调大可以减少取文档的竞争
+     * @param batchSize
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0)
+            throw new IllegalArgumentException("batchSize: " + batchSize);
+        this.batchSize = batchSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public long match(Collection<String> docs, DocumentSink sink) {
+        return match(docs.iterator(), sink);
+    }
+
+    /**
+     * 匹配全部文档, 所有文档处理完才返回. 文档序号按迭代顺序, 回调顺序不确定.
+     * 任何一个文档匹配或回调时出错, 其它线程取完手上这批后停止, 异常抛给调用者
+     * @param docs
+     * @param sink
+     * @return 命中总数
+     */
+    public long match(Iterator<String> docs, DocumentSink sink) {
+        long start = System.nanoTime();
+        Source source = new Source(docs);
+        List<Future<Long>> futures = new ArrayList<Future<Long>>(parallelism);
+        for (int i = 0; i < parallelism; i++)
+            futures.add(executor.submit(() -> work(source, sink)));
+
+        long total = 0;
+        for (Future<Long> future : futures) {
+            try {
+                total += future.get();
+            } catch (ExecutionException e) {
+                // 工作线程已经记下了原始异常, ForkJoinPool 抛出的可能是复制的异常
+                source.fail(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                source.fail(e);
+            }
+        }
+        elapsedNanos.addAndGet(System.nanoTime() - start);
+        Throwable error = source.error;
+        if (error instanceof RuntimeException)
+            throw (RuntimeException) error;
+        if (error instanceof Error)
+            throw (Error) error;
+        if (error != null)
+            throw new IllegalStateException(error);
+        return total;
+    }
+
+    private long work(Source source, DocumentSink sink) {
+        long begin = System.nanoTime();
+        HitBuffer buffer = new HitBuffer();
+        SubMatcher sub = matcher.newMatcher("", buffer);
+        // reset 是可选操作, 不支持时每个文档重新创建匹配器
+        boolean reusable = true;
+        String[] batch = new String[batchSize];
+        long docCount = 0, charCount = 0, hitCount = 0;
+        try {
+            int first;
+            while ((first = source.next(batch)) >= 0) {
+                for (int i = 0; i < batch.length && batch[i] != null; i++) {
+                    String text = batch[i];
+                    batch[i] = null;
+                    buffer.clear();
+                    if (reusable) {
+                        try {
+                            sub.reset(text, 0, text.length());
+                        } catch (UnsupportedOperationException e) {
+                            reusable = false;
+                        }
+                    }
+                    if (!reusable) {
+                        sub = matcher.newMatcher(text, buffer);
+                    }
+                    sub.matchAll(0);
+                    sink.accept(first + i, text, buffer);
+                    docCount++;
+                    charCount += text.length();
+                    hitCount += buffer.size();
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            source.fail(e);
+            throw e;
+        } finally {
+            documents.addAndGet(docCount);
+            chars.addAndGet(charCount);
+            hits.addAndGet(hitCount);
+            busyNanos.addAndGet(System.nanoTime() - begin);
+        }
+        return hitCount;
+    }
+
+    /**
+     * 已经处理的文档数
+     * @return
+     */
+    public long getDocumentCount() {
+        return documents.get();
+    }
+
+    /**
+     * 已经处理的字符数
+     * @return
+     */
+    public long getCharCount() {
+        return chars.get();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * match 调用的总耗时
+     * @return
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos.get();
+    }
+
+    /**
+     * 各工作线程的耗时之和
+     * @return
+     */
+    public long getBusyNanos() {
+        return busyNanos.get();
+    }
+
+    /**
+     * 每秒处理的文档数
+     * @return
+     */
+    public double getDocumentsPerSecond() {
+        long nanos = elapsedNanos.get();
+        return nanos == 0 ? 0 : documents.get() * 1e9 / nanos;
+    }
+
+    /**
+     * 每秒处理的字符数
+     * @return
+     */
+    public double getCharsPerSecond() {
+        long nanos = elapsedNanos.get();
+        return nanos == 0 ? 0 : chars.get() * 1e9 / nanos;
+    }
+
+    /**
+     * 工作线程的平均忙碌比例: 接近 1 说明线程数是瓶颈, 明显小于 1 说明输入跟不上或者线程没有拿到 CPU
+     * @return
+     */
+    public double getUtilization() {
+        long nanos = elapsedNanos.get();
+        return nanos == 0 ? 0 : busyNanos.get() / ((double) nanos * parallelism);
+    }
+
+    public void resetStats() {
+        documents.set(0);
+        chars.set(0);
+        hits.set(0);
+        busyNanos.set(0);
+        elapsedNanos.set(0);
+    }
+
+    /**
+     * 多个工作线程共享的输入, 每次取一批
+     */
+    private static final class Source {
+        private final Iterator<String> docs;
+        private int next;
+        private volatile boolean stopped;
+        private volatile Throwable error;
+
+        Source(Iterator<String> docs) {
+            this.docs = docs;
+        }
+
+        /**
+         * 取一批文档放入 batch, 不满时后面为 null
+         * @return 第一个文档的序号, 没有文档时为 -1
+         */
+        synchronized int next(String[] batch) {
+            if (stopped || !docs.hasNext())
+                return -1;
+            int first = next;
+            int n = 0;
+            while (n < batch.length && docs.hasNext()) {
+                String text = docs.next();
+                if (text == null)
+                    throw new NullPointerException("document " + (first + n) + " is null");
+                batch[n++] = text;
+            }
+            next += n;
+            return first;
+        }
+
+        /**
+         * 停止取文档, 只保留第一个异常
+         */
+        synchronized void fail(Throwable e) {
+            stopped = true;
+            if (error == null)
+                error = e;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.text.algorithm;
+
+/**
+ * 字符归一化表, 每个 char 对应一个 char. 构建时 key 先归一化再存入, 匹配时每读一个字符查一次表,
+ * 不需要先生成归一化的文本副本, 命中的位置就是原文中的位置.
+ * fullWidthToHalfWidth 和 lowerCase 作用在已有映射的结果上, 例如先 fullWidthToHalfWidth 再 lowerCase,
+ * 全角大写字母会变成半角小写字母. 简繁等没有内置的对照表, 用 map 加入: map 覆盖 from 原来的映射,
+ * 目标字符先经过已有的映射, 例如 lowerCase 之后 map('Ｘ', 'Y') 得到 'y'; 已经映射到 from 的其他字符不变.
+ * 设置完成后再交给 builder, 之后不要再修改
+ */
+public final class CharFolding {
+    private final char[] table;
+
+    public CharFolding() {
+        table = new char[Character.MAX_VALUE + 1];
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            table[c] = (char) c;
+        }
+    }
+
+    /**
+     * 使用已有的映射表, 不拷贝
+     * @param table 长度为 65536
+     * @return
+     */
+    public static CharFolding of(char[] table) {
+        if (table.length != Character.MAX_VALUE + 1) {
+            throw new IllegalArgumentException("table length: " + table.length);
+        }
+        return new CharFolding(table);
+    }
+
+    private CharFolding(char[] table) {
+        this.table = table;
+    }
+
+    /**
+     * 全角 ASCII 字符(U+FF01 - U+FF5E)转为半角, 全角空格转为空格
+     * @return this
+     */
+    public CharFolding fullWidthToHalfWidth() {
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            char t = table[c];
+            if (t >= '\uFF01' && t <= '\uFF5E') {
+                table[c] = (char) (t - 0xFEE0);
+            } else if (t == '\u3000') {
+                table[c] = ' ';
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 转为小写, 只处理转换后仍是一个 char 的字符
+     * @return this
+     */
+    public CharFolding lowerCase() {
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            table[c] = Character.toLowerCase(table[c]);
+        }
+        return this;
+    }
+
+    /**
+     * 把 from 映射为 to 经过已有映射后的字符, 覆盖 from 原来的映射
+     * @return this
+     */
+    public CharFolding map(char from, char to) {
+        table[from] = table[to];
+        return this;
+    }
+
+    /**
+     * 逐个字符把 from 中的字符映射为 to 中同一位置的字符, 例如繁简对照表, 每一对同 map(char, char)
+     * @return this
+     */
+    public CharFolding map(CharSequence from, CharSequence to) {
+        if (from.length() != to.length()) {
+            throw new IllegalArgumentException("length mismatch: " + from.length() + ", " + to.length());
+        }
+        for (int i = 0; i < from.length(); i++) {
+            map(from.charAt(i), to.charAt(i));
+        }
+        return this;
+    }
+
+    public char fold(char c) {
+        return table[c];
+    }
+
+    public String fold(CharSequence text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = table[text.charAt(i)];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 内部的映射表, 不要修改
+     * @return
+     */
+    public char[] table() {
+        return table;
+    }
+}
@@ -0,0 +1,15 @@
+package org.text.algorithm;
+
+/**
+ * 批量匹配时接收每个文档的结果, 见 {@link BatchMatcher}
+ */
+public interface DocumentSink {
+    /**
+     * 一个文档匹配完成后在工作线程中调用, 不同文档可能同时在多个线程中回调.
+     * hits 由工作线程重复使用, 返回后内容会被覆盖, 需要保留时自行复制
+     * @param doc 文档在输入中的序号, 从 0 开始
+     * @param text 文档内容
+     * @param hits 文档中的全部命中
+     */
+    void accept(int doc, String text, HitBuffer hits);
+}
@@ -0,0 +1,91 @@
+package org.text.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * 可以重复使用的命中结果缓存, 每个命中按 (offset, length, value) 三个 int 连续存放.
+ * 查询过程中不创建对象, 需要词的文本时再用 word 取.
+ * 不是线程安全的, 一般每个线程一个, 每次查询前调用 clear
+ */
+public final class HitBuffer implements HitCallback {
+    private int[] data;
+    private int size;
+
+    public HitBuffer() {
+        this(16);
+    }
+
+    /**
+     * @param capacity 初始能容纳的命中个数
+     */
+    public HitBuffer(int capacity) {
+        data = new int[Math.max(capacity, 1) * 3];
+    }
+
+    @Override
+    public boolean hit(int off, int len, int value) {
+        int i = size * 3;
+        if (i == data.length) {
+            data = Arrays.copyOf(data, i * 2);
+        }
+        data[i] = off;
+        data[i + 1] = len;
+        data[i + 2] = value;
+        size++;
+        return true;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int offset(int index) {
+        return data[check(index) * 3];
+    }
+
+    public int length(int index) {
+        return data[check(index) * 3 + 1];
+    }
+
+    public int value(int index) {
+        return data[check(index) * 3 + 2];
+    }
+
+    /**
+     * 第 index 个命中在原文中的文本
+     * @param text 查询时使用的文本
+     * @param index
+     * @return
+     */
+    public String word(CharSequence text, int index) {
+        int off = offset(index);
+        return text.subSequence(off, off + length(index)).toString();
+    }
+
+    public String word(char[] text, int index) {
+        return new String(text, offset(index), length(index));
+    }
+
+    /**
+     * 内部数组, 前 size() * 3 个元素有效, 按 offset, length, value 交错存放
+     * @return
+     */
+    public int[] array() {
+        return data;
+    }
+
+    private int check(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return index;
+    }
+}
@@ -1,5 +1,5 @@
-package org.text.algorithm;
-
-public interface HitCallback {
-    boolean hit(int off, int len, int value);
-}
+package org.text.algorithm;
+
+public interface HitCallback {
+    boolean hit(int off, int len, int value);
+}
@@ -0,0 +1,14 @@
+package org.text.algorithm;
+
+/**
+ * 流式匹配的命中回调, 流可能超过 int 范围, 位置用 long 表示
+ */
+public interface StreamHitCallback {
+    /**
+     * @param off 词在整个流中的位置
+     * @param len
+     * @param value
+     * @return 返回 false 时停止匹配
+     */
+    boolean hit(long off, int len, int value);
+}
@@ -0,0 +1,56 @@
+package org.text.algorithm;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+/**
+ * 流式匹配器: 文本分段输入, 跨段的词也能匹配到, 命中的位置是在整个流中的位置.
+ * 只保留最长的词所需要的上下文, 内存占用和流的长度无关. 不是线程安全的
+ */
+public interface StreamMatcher {
+    /**
+     * 输入下一段文本, 读完 chunk 中剩余的全部字符. 能确定的命中在返回前回调
+     * @param chunk
+     * @return 这次回调的次数
+     */
+    int feed(CharBuffer chunk);
+
+    default int feed(char[] chunk, int start, int end) {
+        return feed(CharBuffer.wrap(chunk, start, end - start));
+    }
+
+    /**
+     * 输入结束, 回调剩余的命中. 之后需要 reset 才能匹配新的流
+     * @return 这次回调的次数
+     */
+    int finish();
+
+    /**
+     * 丢弃当前的状态, 从位置 0 开始匹配新的流
+     */
+    void reset();
+
+    /**
+     * 已经输入的字符数
+     * @return
+     */
+    long position();
+
+    /**
+     * 读完整个 reader 并结束, reader 由调用者关闭
+     * @param reader
+     * @return 回调的次数
+     * @throws IOException
+     */
+    default long matchAll(Reader reader) throws IOException {
+        CharBuffer chunk = CharBuffer.allocate(8192);
+        long count = 0;
+        while (reader.read(chunk) >= 0) {
+            chunk.flip();
+            count += feed(chunk);
+            chunk.clear();
+        }
+        return count + finish();
+    }
+}
@@ -1,17 +1,39 @@
-package org.text.algorithm;
-
-public interface SubMatcher {
-    /**
-     * 从制定位置开始前缀匹配
-     * @param pos
-     * @return
-     */
-    int matchPrefix(int pos);
-
-    /**
-     * 从制定位置开始全部匹配
-     * @param pos
-     * @return
-     */
-    int matchAll(int pos);
-}
+package org.text.algorithm;
+
+public interface SubMatcher {
+    /**
+     * 从制定位置开始前缀匹配
+     * @param pos
+     * @return
+     */
+    int matchPrefix(int pos);
+
+    /**
+     * 从制定位置开始全部匹配
+     * @param pos
+     * @return
+     */
+    int matchAll(int pos);
+
+    /**
+     * 换成新的文本, 之后的匹配在 text 的 [start, end) 范围内进行.
+     * 一个匹配器可以这样在多个文本间重复使用, 不用每次创建.
+     * 可选操作, 默认实现抛出 UnsupportedOperationException, 这时每个文本重新 newMatcher
+     * @param text
+     * @param start
+     * @param end
+     */
+    default void reset(String text, int start, int end) {
+        throw new UnsupportedOperationException("reset");
+    }
+
+    /**
+     * 换成新的文本, 之后的匹配在 text 的 [start, end) 范围内进行. 可选操作, 同 reset(String, int, int)
+     * @param text
+     * @param start
+     * @param end
+     */
+    default void reset(char[] text, int start, int end) {
+        throw new UnsupportedOperationException("reset");
+    }
+}
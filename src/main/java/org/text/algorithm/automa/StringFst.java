@@ -0,0 +1,506 @@
+package org.text.algorithm.automa;
+
+import org.text.algorithm.HitCallback;
+import org.text.algorithm.SubMatcher;
+import org.text.algorithm.TextMatcher;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 带值的最小有限状态转换器(FST), 由 {@link StringDfa} 构建, 压缩存放在一个 byte 数组中.
+ * 前缀和后缀都合并, 通常比双数组 trie 小得多, 查询时每个字符在当前状态的出边中查找一次:
+ * 出边少时顺序比较, 多时二分查找.
+ * <p>
+ * 状态按后序写入, 子状态在前, 每个状态的格式为:
+ * <ul>
+ * <li>头: 1 字节, bit0 是否结束状态, bit1 是否有结束输出, bit2 出边是否定长, bit3-7 出边个数(31 表示之后用 vint 存放)</li>
+ * <li>结束输出: vint, 只在 bit1 为 1 时存在</li>
+ * <li>定长出边: [输出字节数] [目标字节数] 之后每条边 [字符 2 字节] [输出] [目标], 按字符排序</li>
+ * <li>变长出边: 每条边 [字符 2 字节] [vint: 目标 &lt;&lt; 1 | 是否有输出] [vint 输出]</li>
+ * </ul>
+ * 目标存的是当前状态地址减去目标地址, 总是正数. 一个词的值是路径上边的输出之和加上结束输出
+ */
+public final class StringFst implements TextMatcher {
+    private static final int FINAL = 1;
+    private static final int FINAL_OUTPUT = 2;
+    private static final int FIXED_ARCS = 4;
+    private static final int ARC_COUNT_SHIFT = 3;
+    private static final int MAX_INLINE_ARCS = 31;
+
+    /**
+     * 出边不少于这个数时按定长存放, 可以二分查找
+     */
+    private static final int FIXED_ARCS_THRESHOLD = 8;
+
+    private final byte[] bytes;
+    private final int root;
+    private final int size;
+    private final int stateCount;
+    private final int arcCount;
+
+    /**
+     * 根状态的出边最多, 每个词首都要查一次, 所以按字符直接索引:
+     * rootIndex[c - rootMin] 是字符 c 在根的定长出边中的序号加 1, 没有为 0.
+     * 根的出边不是定长时为 null
+     */
+    private final int[] rootIndex;
+    private final char rootMin;
+    private final int rootArcs;
+    private final int rootOutputBytes;
+    private final int rootTargetBytes;
+
+    private StringFst(byte[] bytes, int root, int size, int stateCount, int arcCount) {
+        this.bytes = bytes;
+        this.root = root;
+        this.size = size;
+        this.stateCount = stateCount;
+        this.arcCount = arcCount;
+
+        int h = bytes[root] & 0xFF;
+        if ((h & FIXED_ARCS) == 0) {
+            rootIndex = null;
+            rootMin = 0;
+            rootArcs = 0;
+            rootOutputBytes = 0;
+            rootTargetBytes = 0;
+            return;
+        }
+        int p = root + 1;
+        int n = h >>> ARC_COUNT_SHIFT;
+        if (n == MAX_INLINE_ARCS) {
+            n = readVInt(p);
+            while (bytes[p++] < 0) {
+            }
+        }
+        if ((h & FINAL_OUTPUT) != 0) {
+            while (bytes[p++] < 0) {
+            }
+        }
+        rootOutputBytes = bytes[p];
+        rootTargetBytes = bytes[p + 1];
+        rootArcs = p + 2;
+        int width = 2 + rootOutputBytes + rootTargetBytes;
+        char min = label(rootArcs);
+        char max = label(rootArcs + (n - 1) * width);
+        int[] index = new int[max - min + 1];
+        for (int k = 0; k < n; k++) {
+            index[label(rootArcs + k * width) - min] = k + 1;
+        }
+        rootIndex = index;
+        rootMin = min;
+    }
+
+    /**
+     * @param keys 必须排序
+     * @param values 非负, 为 null 时以下标作为值
+     * @return
+     */
+    public static StringFst build(List<? extends CharSequence> keys, int[] values) {
+        StringDfa builder = new StringDfa();
+        for (int i = 0; i < keys.size(); i++) {
+            builder.add(keys.get(i), values != null ? values[i] : i);
+        }
+        return pack(builder.complete(), keys.size());
+    }
+
+    public static StringFst build(SortedMap<String, Integer> inputs) {
+        StringDfa builder = new StringDfa();
+        for (Map.Entry<String, Integer> e : inputs.entrySet()) {
+            builder.add(e.getKey(), e.getValue());
+        }
+        return pack(builder.complete(), inputs.size());
+    }
+
+    /**
+     * 按后序把状态写入字节数组, 相同的状态(已经合并成同一个对象)只写一次
+     */
+    private static StringFst pack(StringDfa.State start, int size) {
+        Writer out = new Writer();
+        IdentityHashMap<StringDfa.State, Integer> addresses = new IdentityHashMap<>();
+        // 显式栈, 避免很长的词导致递归过深
+        ArrayDeque<StringDfa.State> stack = new ArrayDeque<>();
+        stack.push(start);
+        int arcs = 0;
+        while (!stack.isEmpty()) {
+            StringDfa.State s = stack.peek();
+            if (addresses.containsKey(s)) {
+                stack.pop();
+                continue;
+            }
+            boolean ready = true;
+            for (StringDfa.State t : s.states) {
+                if (!addresses.containsKey(t)) {
+                    stack.push(t);
+                    ready = false;
+                }
+            }
+            if (ready) {
+                stack.pop();
+                addresses.put(s, out.size);
+                out.writeState(s, addresses);
+                arcs += s.labels.length;
+            }
+        }
+        return new StringFst(Arrays.copyOf(out.bytes, out.size), addresses.get(start), size, addresses.size(), arcs);
+    }
+
+    /**
+     * 词的个数
+     * @return
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    public int getArcCount() {
+        return arcCount;
+    }
+
+    /**
+     * 占用的字节数, 包括根状态的索引
+     * @return
+     */
+    public int getTotalSize() {
+        return bytes.length + (rootIndex != null ? rootIndex.length * 4 : 0);
+    }
+
+    @Override
+    public int get(String key) {
+        int node = root;
+        int value = 0;
+        for (int i = 0; i < key.length(); i++) {
+            long arc = findArc(node, key.charAt(i));
+            if (arc < 0) {
+                return -1;
+            }
+            value += (int) (arc >>> 32);
+            node = (int) arc;
+        }
+        int f = finalOutput(node);
+        return f < 0 ? -1 : value + f;
+    }
+
+    @Override
+    public int get(char[] key, int start, int end) {
+        int node = root;
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            long arc = findArc(node, key[i]);
+            if (arc < 0) {
+                return -1;
+            }
+            value += (int) (arc >>> 32);
+            node = (int) arc;
+        }
+        int f = finalOutput(node);
+        return f < 0 ? -1 : value + f;
+    }
+
+    @Override
+    public SubMatcher newMatcher(String key, int start, int end, HitCallback callback) {
+        return new Matcher(null, key, end, callback);
+    }
+
+    @Override
+    public SubMatcher newMatcher(char[] key, int start, int end, HitCallback callback) {
+        return new Matcher(key, null, end, callback);
+    }
+
+    /**
+     * 结束状态的结束输出, 不是结束状态时为 -1
+     */
+    private int finalOutput(int node) {
+        int h = bytes[node] & 0xFF;
+        if ((h & FINAL) == 0) {
+            return -1;
+        }
+        if ((h & FINAL_OUTPUT) == 0) {
+            return 0;
+        }
+        int p = node + 1;
+        if ((h >>> ARC_COUNT_SHIFT) == MAX_INLINE_ARCS) {
+            while (bytes[p++] < 0) {
+            }
+        }
+        return readVInt(p);
+    }
+
+    /**
+     * 在状态 node 的出边中查找字符 c
+     * @return 没有时为 -1, 否则高 32 位是边的输出, 低 32 位是目标状态的地址
+     */
+    private long findArc(int node, char c) {
+        if (node == root && rootIndex != null) {
+            int i = c - rootMin;
+            int k = i >= 0 && i < rootIndex.length ? rootIndex[i] - 1 : -1;
+            if (k < 0) {
+                return -1;
+            }
+            int a = rootArcs + k * (2 + rootOutputBytes + rootTargetBytes) + 2;
+            long output = readFixed(a, rootOutputBytes);
+            long target = root - readFixed(a + rootOutputBytes, rootTargetBytes);
+            return (output << 32) | target;
+        }
+        byte[] b = bytes;
+        int h = b[node] & 0xFF;
+        int p = node + 1;
+        int n = h >>> ARC_COUNT_SHIFT;
+        if (n == MAX_INLINE_ARCS) {
+            n = readVInt(p);
+            while (b[p++] < 0) {
+            }
+        }
+        if ((h & FINAL_OUTPUT) != 0) {
+            while (b[p++] < 0) {
+            }
+        }
+        if ((h & FIXED_ARCS) != 0) {
+            int outputBytes = b[p];
+            int targetBytes = b[p + 1];
+            p += 2;
+            int width = 2 + outputBytes + targetBytes;
+            int lo = 0, hi = n - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int a = p + mid * width;
+                char label = (char) (((b[a] & 0xFF) << 8) | (b[a + 1] & 0xFF));
+                if (label < c) {
+                    lo = mid + 1;
+                } else if (label > c) {
+                    hi = mid - 1;
+                } else {
+                    long output = readFixed(a + 2, outputBytes);
+                    long target = node - readFixed(a + 2 + outputBytes, targetBytes);
+                    return (output << 32) | target;
+                }
+            }
+            return -1;
+        }
+        for (int k = 0; k < n; k++) {
+            char label = (char) (((b[p] & 0xFF) << 8) | (b[p + 1] & 0xFF));
+            if (label > c) {
+                return -1;
+            }
+            p += 2;
+            int v = readVInt(p);
+            while (b[p++] < 0) {
+            }
+            int output = 0;
+            if ((v & 1) != 0) {
+                output = readVInt(p);
+                while (b[p++] < 0) {
+                }
+            }
+            if (label == c) {
+                return ((long) output << 32) | (node - (v >>> 1));
+            }
+        }
+        return -1;
+    }
+
+    private char label(int p) {
+        return (char) (((bytes[p] & 0xFF) << 8) | (bytes[p + 1] & 0xFF));
+    }
+
+    private int readVInt(int p) {
+        byte[] b = bytes;
+        int v = 0;
+        int shift = 0;
+        while (true) {
+            int x = b[p++];
+            v |= (x & 0x7F) << shift;
+            if (x >= 0) {
+                return v;
+            }
+            shift += 7;
+        }
+    }
+
+    private int readFixed(int p, int n) {
+        int v = 0;
+        for (int i = 0; i < n; i++) {
+            v = (v << 8) | (bytes[p + i] & 0xFF);
+        }
+        return v;
+    }
+
+    /**
+     * 可以增长的字节数组
+     */
+    private static final class Writer {
+        byte[] bytes = new byte[1 << 16];
+        int size;
+
+        void writeState(StringDfa.State s, IdentityHashMap<StringDfa.State, Integer> addresses) {
+            int address = size;
+            int n = s.labels.length;
+            boolean fixed = n >= FIXED_ARCS_THRESHOLD;
+            int h = (Math.min(n, MAX_INLINE_ARCS) << ARC_COUNT_SHIFT)
+                    | (s.is_final ? FINAL : 0)
+                    | (s.is_final && s.finalOutput != 0 ? FINAL_OUTPUT : 0)
+                    | (fixed ? FIXED_ARCS : 0);
+            writeByte(h);
+            if (n >= MAX_INLINE_ARCS) {
+                writeVInt(n);
+            }
+            if ((h & FINAL_OUTPUT) != 0) {
+                writeVInt(s.finalOutput);
+            }
+            if (fixed) {
+                int maxOutput = 0;
+                int maxTarget = 0;
+                for (int i = 0; i < n; i++) {
+                    maxOutput = Math.max(maxOutput, s.outputs[i]);
+                    maxTarget = Math.max(maxTarget, address - addresses.get(s.states[i]));
+                }
+                int outputBytes = bytesOf(maxOutput);
+                int targetBytes = bytesOf(maxTarget);
+                writeByte(outputBytes);
+                writeByte(targetBytes);
+                for (int i = 0; i < n; i++) {
+                    writeChar(s.labels[i]);
+                    writeFixed(s.outputs[i], outputBytes);
+                    writeFixed(address - addresses.get(s.states[i]), targetBytes);
+                }
+            } else {
+                for (int i = 0; i < n; i++) {
+                    int delta = address - addresses.get(s.states[i]);
+                    if (delta >= 1 << 30) {
+                        throw new IllegalStateException("fst too large");
+                    }
+                    writeChar(s.labels[i]);
+                    writeVInt((delta << 1) | (s.outputs[i] != 0 ? 1 : 0));
+                    if (s.outputs[i] != 0) {
+                        writeVInt(s.outputs[i]);
+                    }
+                }
+            }
+        }
+
+        private static int bytesOf(int v) {
+            int n = 0;
+            while (v != 0) {
+                n++;
+                v >>>= 8;
+            }
+            return n;
+        }
+
+        private void ensure(int n) {
+            if (size + n > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(size + n, bytes.length * 2));
+            }
+        }
+
+        void writeByte(int v) {
+            ensure(1);
+            bytes[size++] = (byte) v;
+        }
+
+        void writeChar(char c) {
+            ensure(2);
+            bytes[size++] = (byte) (c >>> 8);
+            bytes[size++] = (byte) c;
+        }
+
+        void writeVInt(int v) {
+            ensure(5);
+            while ((v & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            bytes[size++] = (byte) v;
+        }
+
+        void writeFixed(int v, int n) {
+            ensure(n);
+            for (int i = n - 1; i >= 0; i--) {
+                bytes[size++] = (byte) (v >>> (i * 8));
+            }
+        }
+    }
+
+    /**
+     * 命中顺序同没有 Aho-Corasick 链接的双数组 trie: 按词首位置, 同一位置按长度.
+     * 和双数组 trie 一样从 matchPrefix/matchAll 给出的位置开始匹配, 范围的起点只由调用方决定, 不用保存
+     */
+    private final class Matcher implements SubMatcher {
+        private char[] chars;
+        private String text;
+        private int end;
+        private final HitCallback callback;
+        private boolean stop;
+
+        Matcher(char[] chars, String text, int end, HitCallback callback) {
+            this.chars = chars;
+            this.text = text;
+            this.end = end;
+            this.callback = callback;
+        }
+
+        @Override
+        public int matchPrefix(int pos) {
+            stop = false;
+            return match(pos);
+        }
+
+        @Override
+        public int matchAll(int pos) {
+            stop = false;
+            int count = 0;
+            for (int i = pos; i < end && !stop; i++) {
+                count += match(i);
+            }
+            return count;
+        }
+
+        private int match(int pos) {
+            char[] c = chars;
+            int node = root;
+            int value = 0;
+            int count = 0;
+            for (int i = pos; i < end; i++) {
+                long arc = findArc(node, c != null ? c[i] : text.charAt(i));
+                if (arc < 0) {
+                    break;
+                }
+                value += (int) (arc >>> 32);
+                node = (int) arc;
+                int f = finalOutput(node);
+                if (f >= 0) {
+                    count++;
+                    if (!callback.hit(pos, i + 1 - pos, value + f)) {
+                        stop = true;
+                        break;
+                    }
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public void reset(String text, int start, int end) {
+            this.chars = null;
+            this.text = text;
+            this.end = end;
+            this.stop = false;
+        }
+
+        @Override
+        public void reset(char[] text, int start, int end) {
+            this.chars = text;
+            this.text = null;
+            this.end = end;
+            this.stop = false;
+        }
+    }
+}
@@ -1,22 +1,22 @@
-/* Copyright (c) 2018-2020, Aitek Co.
-
-   Permission to use, copy, modify, and/or distribute this software
-   for any purpose with or without fee is hereby granted, provided
-   that the above copyright notice and this permission notice appear
-   in all copies.
-
-   There is NO WARRANTY for this software.  See license.txt for
-   details. */
-package org.text.algorithm.regexp.fsm;
-
-public class HashUtils {
-    public static int hash32shift(int key) {
-        key = ~key + (key << 15); // key = (key << 15) - key - 1;
-        key = key ^ (key >>> 12);
-        key = key + (key << 2);
-        key = key ^ (key >>> 4);
-        key = key * 2057; // key = (key + (key << 3)) + (key << 11);
-        key = key ^ (key >>> 16);
-        return key;
-    }
-}
+/* Copyright (c) 2018-2020, Aitek Co.
+
+   Permission to use, copy, modify, and/or distribute this software
+   for any purpose with or without fee is hereby granted, provided
+   that the above copyright notice and this permission notice appear
+   in all copies.
+
+   There is NO WARRANTY for this software.  See license.txt for
+   details. */
+package org.text.algorithm.regexp.fsm;
+
+public class HashUtils {
+    public static int hash32shift(int key) {
+        key = ~key + (key << 15); // key = (key << 15) - key - 1;
+        key = key ^ (key >>> 12);
+        key = key + (key << 2);
+        key = key ^ (key >>> 4);
+        key = key * 2057; // key = (key + (key << 3)) + (key << 11);
+        key = key ^ (key >>> 16);
+        return key;
+    }
+}
@@ -1,43 +1,64 @@
-package org.text.algorithm.trie;
-
-import org.text.algorithm.trie.impl.DoubleArrayTrie;
-import org.text.algorithm.trie.impl.DoubleArrayTrieBuilder;
-
-import java.util.List;
-import java.util.SortedMap;
-
-public interface TrieBuilder {
-    /**
-     * 构造 trie 树
-     * @param inputs
-     * @return
-     */
-    int build(SortedMap<String, Integer> inputs);
-
-    /**
-     * 构造 trie 树, 要求 _key 排序
-     * _length， _value 如果非空， 必须与 _keySize 等长
-     * @param _key
-     * @param _length
-     * @param _value
-     * @param _keySize
-     * @return
-     */
-    int build(List<String> _key, int _length[], int _value[],
-              int _keySize);
-
-    /**
-     * 清除builder， 以便再次构建
-     */
-    void clear();
-
-    /**
-     * 获取构建的trie
-     * @return
-     */
-    DoubleArrayTrie toTrie();
-
-    static TrieBuilder defaultBuilder() {
-        return new DoubleArrayTrieBuilder();
-    }
-}
+package org.text.algorithm.trie;
+
+import org.text.algorithm.trie.impl.DoubleArrayTrie;
+import org.text.algorithm.trie.impl.DoubleArrayTrieBuilder;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+public interface TrieBuilder {
+    /**
+     * 构造 trie 树
+     * @param inputs
+     * @return
+     */
+    int build(SortedMap<String, Integer> inputs);
+
+    /**
+     * 构造 trie 树, 要求 _key 排序
+     * _length， _value 如果非空， 必须与 _keySize 等长
+     * @param _key
+     * @param _length
+     * @param _value
+     * @param _keySize
+     * @return
+     */
+    int build(List<String> _key, int _length[], int _value[],
+              int _keySize);
+
+    /**
+     * 构造 trie 树, 输入不需要排序, 相同的 key 以最后一个 value 为准.
+     * 默认实现先在内存中排好序再调用 build(SortedMap);
+     * {@link DoubleArrayTrieBuilder} 在有限的内存中排序, 超出的部分使用临时文件
+     * @param inputs
+     * @return
+     * @throws IOException
+     */
+    default int buildUnsorted(Iterator<? extends Map.Entry<String, Integer>> inputs) throws IOException {
+        SortedMap<String, Integer> sorted = new TreeMap<>();
+        while (inputs.hasNext()) {
+            Map.Entry<String, Integer> entry = inputs.next();
+            sorted.put(entry.getKey(), entry.getValue());
+        }
+        return build(sorted);
+    }
+
+    /**
+     * 清除builder， 以便再次构建
+     */
+    void clear();
+
+    /**
+     * 获取构建的trie
+     * @return
+     */
+    DoubleArrayTrie toTrie();
+
+    static TrieBuilder defaultBuilder() {
+        return new DoubleArrayTrieBuilder();
+    }
+}
@@ -0,0 +1,68 @@
+package org.text.algorithm.trie.impl;
+
+/**
+ * 在双数组上构建 Aho-Corasick 的失败链接和输出链接.
+ * 状态就是双数组中的节点下标, 根为 0, 转移仍然走 base/check.
+ * 结果按节点交错存放, 每个节点 3 个 int:
+ * <ul>
+ * <li>fail: 失败链接</li>
+ * <li>output: 沿失败链(包括自身)遇到的第一个词尾节点, 没有为 0</li>
+ * <li>depth: 节点深度, 即从根到该节点的字符数</li>
+ * </ul>
+ */
+final class AhoCorasick {
+	static final int STRIDE = 3;
+	static final int FAIL = 0;
+	static final int OUTPUT = 1;
+	static final int DEPTH = 2;
+
+	private AhoCorasick() {
+	}
+
+	static int[] build(DoubleArrayTrie trie) {
+		int size = trie.size;
+		int[] table = new int[size * STRIDE];
+		if (size == 0)
+			return table;
+
+		ChildIndex index = ChildIndex.of(trie);
+		int[] queue = new int[index.children.length + 1];
+		int head = 0, tail = 0;
+		queue[tail++] = 0;
+		while (head < tail) {
+			int u = queue[head++];
+			int ub = trie.base(u);
+			for (int i = index.start[u]; i < index.start[u + 1]; i++) {
+				int v = index.children[i];
+				int code = v - ub;
+				int fail = 0;
+				if (u != 0) {
+					int f = table[u * STRIDE + FAIL];
+					while (true) {
+						int t = transition(trie, f, code);
+						if (t >= 0) {
+							fail = t;
+							break;
+						}
+						if (f == 0)
+							break;
+						f = table[f * STRIDE + FAIL];
+					}
+				}
+				table[v * STRIDE + FAIL] = fail;
+				table[v * STRIDE + OUTPUT] = trie.valueAt(v) >= 0 ? v : table[fail * STRIDE + OUTPUT];
+				table[v * STRIDE + DEPTH] = table[u * STRIDE + DEPTH] + 1;
+				queue[tail++] = v;
+			}
+		}
+		return table;
+	}
+
+	private static int transition(DoubleArrayTrie trie, int s, int code) {
+		int b = trie.base(s);
+		int p = b + code;
+		if (p < trie.size && trie.check(p) == b)
+			return p;
+		return -1;
+	}
+}
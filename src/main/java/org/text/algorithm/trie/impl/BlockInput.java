@@ -0,0 +1,181 @@
+package org.text.algorithm.trie.impl;
+
+import java.io.DataInput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.zip.CRC32;
+
+/**
+ * 按块读取 int 数据, 同时统计读过的字节的 CRC32.
+ * 长度已知时按块预读, 不会越过数据的结尾; 长度未知时(只能是 DataInput)只读需要的字节.
+ * 读到结尾之后再读抛出 EOFException
+ */
+final class BlockInput {
+	private static final int BUFFER_SIZE = 1 << 20;
+
+	private final ReadableByteChannel channel;
+	private final DataInput in;
+	private final ByteBuffer buffer;
+	private final CRC32 crc = new CRC32();
+	/**
+	 * 还没有读进缓冲区的字节数, 小于 0 表示长度未知
+	 */
+	private long unread;
+
+	/**
+	 * @param channel 从当前位置开始读
+	 * @param length 数据的字节数
+	 * @param order
+	 */
+	BlockInput(ReadableByteChannel channel, long length, ByteOrder order) {
+		this.channel = channel;
+		this.in = null;
+		this.unread = length;
+		this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(order);
+		buffer.limit(0);
+	}
+
+	/**
+	 * @param in
+	 * @param length 数据的字节数, 小于 0 表示一直读到 in 的结尾
+	 * @param order
+	 */
+	BlockInput(DataInput in, long length, ByteOrder order) {
+		this.channel = null;
+		this.in = in;
+		this.unread = length;
+		this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(order);
+		buffer.limit(0);
+	}
+
+	ByteOrder order() {
+		return buffer.order();
+	}
+
+	int readInt() throws IOException {
+		require(4, 4);
+		return buffer.getInt();
+	}
+
+	void readInts(int[] dst, int off, int len) throws IOException {
+		while (len > 0) {
+			require(4, len * 4L);
+			int n = Math.min(len, buffer.remaining() >> 2);
+			buffer.asIntBuffer().get(dst, off, n);
+			buffer.position(buffer.position() + n * 4);
+			off += n;
+			len -= n;
+		}
+	}
+
+	/**
+	 * 读满 dst 剩余的部分, 按 dst 自己的字节序
+	 */
+	void readInts(IntBuffer dst) throws IOException {
+		while (dst.hasRemaining()) {
+			require(4, dst.remaining() * 4L);
+			int n = Math.min(dst.remaining(), buffer.remaining() >> 2);
+			IntBuffer part = buffer.asIntBuffer();
+			part.limit(n);
+			dst.put(part);
+			buffer.position(buffer.position() + n * 4);
+		}
+	}
+
+	/**
+	 * 读 chars 个字符, 之后跳过补齐到 4 字节的部分
+	 */
+	void readChars(char[] dst, int chars) throws IOException {
+		int off = 0;
+		while (off < chars) {
+			require(2, (chars - off) * 2L);
+			int n = Math.min(chars - off, buffer.remaining() >> 1);
+			buffer.asCharBuffer().get(dst, off, n);
+			buffer.position(buffer.position() + n * 2);
+			off += n;
+		}
+		if ((chars & 1) != 0)
+			skip(2);
+	}
+
+	/**
+	 * 读满 dst 剩余的部分, 之后跳过补齐到 4 字节的部分
+	 */
+	void readBytes(ByteBuffer dst) throws IOException {
+		int bytes = dst.remaining();
+		while (dst.hasRemaining()) {
+			require(1, dst.remaining());
+			int n = Math.min(dst.remaining(), buffer.remaining());
+			ByteBuffer part = buffer.slice();
+			part.limit(n);
+			dst.put(part);
+			buffer.position(buffer.position() + n);
+		}
+		skip((4 - bytes % 4) % 4);
+	}
+
+	void skip(long n) throws IOException {
+		while (n > 0) {
+			require(1, n);
+			int k = (int) Math.min(n, buffer.remaining());
+			buffer.position(buffer.position() + k);
+			n -= k;
+		}
+	}
+
+	/**
+	 * 还没有读的字节数, 长度未知时为 -1
+	 */
+	long remaining() {
+		return unread < 0 ? -1 : unread + buffer.remaining();
+	}
+
+	/**
+	 * 已经读进缓冲区的字节的 CRC32, 读到数据结尾后就是全部数据的校验和
+	 */
+	int checksum() {
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * 保证缓冲区中至少有 min 个字节(不超过 4), 长度未知的 DataInput 最多再读 want 个字节
+	 */
+	private void require(int min, long want) throws IOException {
+		if (buffer.remaining() >= min)
+			return;
+		buffer.compact();
+		long n = buffer.remaining();
+		if (unread >= 0)
+			n = Math.min(n, unread);
+		else
+			n = Math.min(n, Math.max(min, want) - buffer.position());
+		if (buffer.position() + n < min) {
+			buffer.flip();
+			throw new EOFException();
+		}
+		int from = buffer.position();
+		int target = from + (int) n;
+		if (channel != null) {
+			buffer.limit(target);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer) < 0) {
+					buffer.flip();
+					throw new EOFException();
+				}
+			}
+		} else {
+			in.readFully(buffer.array(), buffer.arrayOffset() + from, (int) n);
+			buffer.position(target);
+		}
+		if (unread >= 0)
+			unread -= n;
+		buffer.flip();
+		ByteBuffer added = buffer.duplicate();
+		added.position(from);
+		crc.update(added);
+	}
+}
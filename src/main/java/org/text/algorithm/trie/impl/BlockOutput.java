@@ -0,0 +1,155 @@
+package org.text.algorithm.trie.impl;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.CRC32;
+
+/**
+ * 按块写出 little-endian 数据, 同时统计字节数和 CRC32.
+ * int 数组整段拷贝进缓冲区, 缓冲区满了再一次写入通道或者 DataOutput.
+ * 不指定输出时只统计长度和校验和, 用于不能回头补写文件头的流
+ */
+final class BlockOutput {
+	private static final int BUFFER_SIZE = 1 << 20;
+
+	private final WritableByteChannel channel;
+	private final DataOutput out;
+	private final ByteBuffer buffer;
+	private final CRC32 crc = new CRC32();
+	private long length;
+
+	BlockOutput(WritableByteChannel channel) {
+		this.channel = channel;
+		this.out = null;
+		this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	BlockOutput(DataOutput out) {
+		this.channel = null;
+		this.out = out;
+		this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * 只统计长度和校验和
+	 */
+	BlockOutput() {
+		this.channel = null;
+		this.out = null;
+		this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	void writeInt(int v) throws IOException {
+		if (buffer.remaining() < 4)
+			flush();
+		buffer.putInt(v);
+	}
+
+	void writeInts(int[] src, int off, int len) throws IOException {
+		while (len > 0) {
+			if (buffer.remaining() < 4)
+				flush();
+			int n = Math.min(len, buffer.remaining() >> 2);
+			buffer.asIntBuffer().put(src, off, n);
+			buffer.position(buffer.position() + n * 4);
+			off += n;
+			len -= n;
+		}
+	}
+
+	/**
+	 * 写出 src 中剩余的 int, 不改变 src 的位置
+	 */
+	void writeInts(IntBuffer src) throws IOException {
+		IntBuffer s = src.duplicate();
+		while (s.hasRemaining()) {
+			if (buffer.remaining() < 4)
+				flush();
+			int n = Math.min(s.remaining(), buffer.remaining() >> 2);
+			IntBuffer part = s.slice();
+			part.limit(n);
+			buffer.asIntBuffer().put(part);
+			buffer.position(buffer.position() + n * 4);
+			s.position(s.position() + n);
+		}
+	}
+
+	/**
+	 * 写出 src 中剩余的字符, 之后补齐到 4 字节, 不改变 src 的位置
+	 */
+	void writeChars(CharBuffer src) throws IOException {
+		CharBuffer s = src.duplicate();
+		int chars = s.remaining();
+		while (s.hasRemaining()) {
+			if (buffer.remaining() < 2)
+				flush();
+			int n = Math.min(s.remaining(), buffer.remaining() >> 1);
+			CharBuffer part = s.slice();
+			part.limit(n);
+			buffer.asCharBuffer().put(part);
+			buffer.position(buffer.position() + n * 2);
+			s.position(s.position() + n);
+		}
+		if ((chars & 1) != 0) {
+			if (buffer.remaining() < 2)
+				flush();
+			buffer.putChar((char) 0);
+		}
+	}
+
+	/**
+	 * 写出 src 中剩余的字节, 之后补齐到 4 字节, 不改变 src 的位置
+	 */
+	void writeBytes(ByteBuffer src) throws IOException {
+		ByteBuffer s = src.duplicate();
+		int bytes = s.remaining();
+		while (s.hasRemaining()) {
+			if (!buffer.hasRemaining())
+				flush();
+			int n = Math.min(s.remaining(), buffer.remaining());
+			ByteBuffer part = s.slice();
+			part.limit(n);
+			buffer.put(part);
+			s.position(s.position() + n);
+		}
+		for (int pad = bytes; pad % 4 != 0; pad++) {
+			if (!buffer.hasRemaining())
+				flush();
+			buffer.put((byte) 0);
+		}
+	}
+
+	void flush() throws IOException {
+		buffer.flip();
+		length += buffer.remaining();
+		buffer.mark();
+		crc.update(buffer);
+		buffer.reset();
+		if (channel != null) {
+			while (buffer.hasRemaining())
+				channel.write(buffer);
+		} else if (out != null) {
+			out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * 已经 flush 的字节数
+	 */
+	long length() {
+		return length;
+	}
+
+	/**
+	 * 已经 flush 的字节的 CRC32
+	 */
+	int checksum() {
+		return (int) crc.getValue();
+	}
+}
@@ -0,0 +1,241 @@
+package org.text.algorithm.trie.impl;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * 分块的布隆过滤器, 精确查询前先排除大部分不存在的 key.
+ * 每块 16 个 int, 512 位, 是一个缓存行的大小; key 的哈希先选定一块, k 个位都在这一块里,
+ * 所以判断一个 key 只访问一处内存, 不存在的 key 不必再沿 base/check 往下走.
+ * 哈希按 trie 中存放的字符计算, 查询时输入先归一化.
+ * 保存为 [k] 之后是各块的数据
+ */
+final class BloomFilter {
+	static final int BLOCK_INTS = 16;
+	private static final int BLOCK_BITS = BLOCK_INTS * 32;
+
+	/**
+	 * 逐字符累积的 FNV 式哈希, 最后混入长度再打散, 见 finish
+	 */
+	private static final long SEED = 0x2545F4914F6CDD1DL;
+	private static final long PRIME = 0x100000001B3L;
+
+	/**
+	 * 每个 key 设置的位数
+	 */
+	private final int hashes;
+	private final int blockCount;
+
+	/**
+	 * 堆上的数据, openMapped 时为 null
+	 */
+	private final int[] array;
+
+	/**
+	 * 映射文件中的数据, 堆模式下为 null
+	 */
+	private final IntBuffer buffer;
+
+	private BloomFilter(int hashes, int[] array, IntBuffer buffer, int length) {
+		this.hashes = hashes;
+		this.blockCount = length / BLOCK_INTS;
+		this.array = array;
+		this.buffer = buffer;
+	}
+
+	/**
+	 * 按期望的误判率为 trie 中的所有词构建过滤器: 每个词约 -ln(p) / ln(2)^2 位, k 取 ln(2) 倍, 最多 16
+	 * @param trie
+	 * @param falsePositiveRate 0 到 1 之间
+	 * @return
+	 */
+	static BloomFilter build(DoubleArrayTrie trie, double falsePositiveRate) {
+		if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+			throw new IllegalArgumentException("falsePositiveRate: " + falsePositiveRate);
+		Hashes keys = new Hashes();
+		if (trie.size > 0)
+			keys.collect(trie, ChildIndex.of(trie), 0, 0, SEED);
+		double bitsPerKey = -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+		int hashes = (int) Math.max(1, Math.min(16, Math.round(bitsPerKey * Math.log(2))));
+		long blocks = Math.max(1, (long) Math.ceil(keys.size * bitsPerKey / BLOCK_BITS));
+		if (blocks * BLOCK_INTS > Integer.MAX_VALUE - 1)
+			throw new IllegalArgumentException("bloom filter too large: " + keys.size + " keys");
+		int length = (int) blocks * BLOCK_INTS;
+		BloomFilter filter = new BloomFilter(hashes, new int[length], null, length);
+		for (int i = 0; i < keys.size; i++)
+			filter.add(keys.values[i]);
+		return filter;
+	}
+
+	/**
+	 * 所有词的哈希, 先收集起来, 知道词数以后才能确定块数
+	 */
+	private static final class Hashes {
+		long[] values = new long[1024];
+		int size;
+
+		/**
+		 * 深度优先遍历, 沿路径逐字符累积哈希
+		 * @param depth 到节点 s 的字符数
+		 * @param h 前 depth 个字符累积的哈希
+		 */
+		void collect(DoubleArrayTrie trie, ChildIndex index, int s, int depth, long h) {
+			if (trie.valueAt(s) >= 0)
+				add(finish(h, depth));
+			int b = trie.base(s);
+			for (int i = index.start[s]; i < index.start[s + 1]; i++) {
+				int v = index.children[i];
+				long hv = step(h, trie.charOf(v - b));
+				int vb = trie.base(v);
+				if (vb < 0) {
+					// tail 节点, 剩余的后缀都在 tail 中
+					int t = -vb - 1;
+					int len = trie.tail.get(t);
+					for (int k = 0; k < len; k++)
+						hv = step(hv, trie.tail.get(t + 1 + k));
+					add(finish(hv, depth + 1 + len));
+				} else {
+					collect(trie, index, v, depth + 1, hv);
+				}
+			}
+		}
+
+		private void add(long h) {
+			if (size == values.length)
+				values = Arrays.copyOf(values, size * 2);
+			values[size++] = h;
+		}
+	}
+
+	static long hash(CharSequence key, char[] folding) {
+		long h = SEED;
+		int len = key.length();
+		for (int i = 0; i < len; i++) {
+			char c = key.charAt(i);
+			h = step(h, folding != null ? folding[c] : c);
+		}
+		return finish(h, len);
+	}
+
+	static long hash(char[] key, int start, int end, char[] folding) {
+		long h = SEED;
+		for (int i = start; i < end; i++) {
+			char c = key[i];
+			h = step(h, folding != null ? folding[c] : c);
+		}
+		return finish(h, end - start);
+	}
+
+	private static long step(long h, char c) {
+		return (h ^ c) * PRIME;
+	}
+
+	private static long finish(long h, int length) {
+		h ^= length;
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	/**
+	 * @param h {@link #hash} 的结果
+	 * @return false 表示一定不存在
+	 */
+	boolean mightContain(long h) {
+		// 高 32 位选块, 低 32 位和再次混合的高位做两个步长, 每个位取 9 位
+		int block = (int) (((h >>> 32) * blockCount) >>> 32) * BLOCK_INTS;
+		int x = (int) h;
+		int y = (int) ((h * 0x9E3779B97F4A7C15L) >>> 32) | 1;
+		int[] a = array;
+		for (int i = 0; i < hashes; i++, x += y) {
+			int bit = x >>> 23;
+			int word = a != null ? a[block + (bit >>> 5)] : buffer.get(block + (bit >>> 5));
+			if ((word & (1 << bit)) == 0)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 加入一个 key, 只在堆模式下可用, 只会置位
+	 */
+	void add(long h) {
+		int block = (int) (((h >>> 32) * blockCount) >>> 32) * BLOCK_INTS;
+		int x = (int) h;
+		int y = (int) ((h * 0x9E3779B97F4A7C15L) >>> 32) | 1;
+		for (int i = 0; i < hashes; i++, x += y) {
+			int bit = x >>> 23;
+			array[block + (bit >>> 5)] |= 1 << bit;
+		}
+	}
+
+	/**
+	 * 由各块中已置位的比例估计的误判率: 不存在的 key 落在每块的机会相同, 要求的 k 位都已置位才误判
+	 * @return
+	 */
+	double falsePositiveRate() {
+		double sum = 0;
+		for (int b = 0; b < blockCount; b++) {
+			int bits = 0;
+			for (int i = 0; i < BLOCK_INTS; i++)
+				bits += Integer.bitCount(get(b * BLOCK_INTS + i));
+			sum += Math.pow((double) bits / BLOCK_BITS, hashes);
+		}
+		return blockCount > 0 ? sum / blockCount : 0;
+	}
+
+	int hashCount() {
+		return hashes;
+	}
+
+	private int get(int index) {
+		return array != null ? array[index] : buffer.get(index);
+	}
+
+	/**
+	 * 保存时占用的 int 个数
+	 */
+	int intLength() {
+		return 1 + blockCount * BLOCK_INTS;
+	}
+
+	void write(BlockOutput out) throws IOException {
+		out.writeInt(hashes);
+		if (array != null) {
+			out.writeInts(array, 0, array.length);
+		} else {
+			out.writeInts(buffer);
+		}
+	}
+
+	static BloomFilter read(BlockInput in, int length) throws IOException {
+		int hashes = in.readInt();
+		int n = checkLength(hashes, length);
+		int[] array = new int[n];
+		in.readInts(array, 0, n);
+		return new BloomFilter(hashes, array, null, n);
+	}
+
+	/**
+	 * view 从当前位置开始的 length 个 int, 不拷贝
+	 */
+	static BloomFilter view(IntBuffer view, int length) throws IOException {
+		int hashes = view.get(view.position());
+		int n = checkLength(hashes, length);
+		IntBuffer b = view.duplicate();
+		b.position(view.position() + 1);
+		b.limit(b.position() + n);
+		return new BloomFilter(hashes, null, b.slice(), n);
+	}
+
+	private static int checkLength(int hashes, int length) throws IOException {
+		int n = length - 1;
+		if (hashes < 1 || hashes > 16 || n < BLOCK_INTS || n % BLOCK_INTS != 0)
+			throw new IOException("bad bloom filter section: " + hashes + ", " + length);
+		return n;
+	}
+}
@@ -0,0 +1,97 @@
+package org.text.algorithm.trie.impl;
+
+import java.util.Arrays;
+
+/**
+ * 双数组的父子关系索引.
+ * check 中保存的是父节点的 base 而不是父节点的下标, 所以先按 check 分桶,
+ * 再从根节点向下遍历, 把每个节点的子节点按下标(也就是按字符编码)顺序排在一起.
+ * 结束符节点(编码为 0 的子节点)不计入子节点.
+ */
+final class ChildIndex {
+	/**
+	 * 每个节点的父节点, 根节点及空闲单元为 -1
+	 */
+	final int[] parent;
+	/**
+	 * 节点 s 的子节点为 children[start[s]] ... children[start[s + 1] - 1]
+	 */
+	final int[] start;
+	final int[] children;
+
+	private ChildIndex(int[] parent, int[] start, int[] children) {
+		this.parent = parent;
+		this.start = start;
+		this.children = children;
+	}
+
+	static ChildIndex of(DoubleArrayTrie trie) {
+		int size = trie.size;
+		// 按 check 值分桶, 桶 b 中就是 base 为 b 的节点的全部子节点(含结束符)
+		int[] bucket = new int[size + 1];
+		for (int p = 1; p < size; p++) {
+			int c = trie.check(p);
+			if (c > 0 && c < size)
+				bucket[c + 1]++;
+		}
+		for (int c = 0; c < size; c++)
+			bucket[c + 1] += bucket[c];
+		int[] slots = new int[bucket[size]];
+		int[] fill = new int[size];
+		for (int p = 1; p < size; p++) {
+			int c = trie.check(p);
+			if (c > 0 && c < size)
+				slots[bucket[c] + fill[c]++] = p;
+		}
+
+		// 从根开始向下走, 在线修改后退役的旧位置走不到, 不会计入
+		int[] parent = new int[size];
+		Arrays.fill(parent, -1);
+		int[] queue = new int[size];
+		int head = 0, tail = 0;
+		int count = 0;
+		if (size > 0)
+			queue[tail++] = 0;
+		while (head < tail) {
+			int u = queue[head++];
+			int b = trie.base(u);
+			if (b <= 0 || b >= size)
+				continue;
+			for (int i = bucket[b]; i < bucket[b + 1]; i++) {
+				int p = slots[i];
+				if (p != b && parent[p] < 0) {
+					parent[p] = u;
+					queue[tail++] = p;
+					count++;
+				}
+			}
+		}
+
+		int[] start = new int[size + 1];
+		for (int p = 1; p < size; p++) {
+			if (parent[p] >= 0)
+				start[parent[p] + 1]++;
+		}
+		for (int s = 0; s < size; s++)
+			start[s + 1] += start[s];
+
+		int[] children = new int[count];
+		Arrays.fill(fill, 0);
+		for (int p = 1; p < size; p++) {
+			int u = parent[p];
+			if (u >= 0)
+				children[start[u] + fill[u]++] = p;
+		}
+		return new ChildIndex(parent, start, children);
+	}
+
+	/**
+	 * 下标 s 是否是一个普通节点(根节点或者由字符转移到达的节点)
+	 */
+	static boolean isNode(DoubleArrayTrie trie, int s) {
+		if (s == 0)
+			return true;
+		int c = trie.check(s);
+		return c != 0 && c != s;
+	}
+}
@@ -0,0 +1,276 @@
+package org.text.algorithm.trie.impl;
+
+import org.text.algorithm.trie.Trie.TrieResult;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 按权重前缀补全用的节点标注, 结果按节点交错存放, 每个单元 3 个 int:
+ * <ul>
+ * <li>weight: 子树中最大的词权重; 结束符单元和 tail 节点是所在词的权重</li>
+ * <li>first: 权重最大的子节点, 结束符单元也算作子节点, 没有为 0</li>
+ * <li>next: 同一父节点下权重次大的兄弟, 没有为 0</li>
+ * </ul>
+ * 查询时从前缀所在节点开始按 weight 优先搜索, 每弹出一个单元才放入它的 first 和 next,
+ * 所以只访问结果附近的节点, 不需要遍历整个子树.
+ */
+final class Completion {
+	static final int STRIDE = 3;
+	static final int WEIGHT = 0;
+	static final int FIRST = 1;
+	static final int NEXT = 2;
+
+	private Completion() {
+	}
+
+	/**
+	 * @param trie
+	 * @param weightOf 值对应的权重
+	 * @return
+	 */
+	static int[] build(DoubleArrayTrie trie, IntUnaryOperator weightOf) {
+		int size = trie.size;
+		int[] table = new int[size * STRIDE];
+		if (size == 0)
+			return table;
+
+		ChildIndex index = ChildIndex.of(trie);
+		// 广度优先的顺序, 倒过来就是先子后父
+		int[] order = new int[index.children.length + 1];
+		int head = 0, tail = 0;
+		order[tail++] = 0;
+		while (head < tail) {
+			int u = order[head++];
+			if (trie.base(u) < 0)
+				continue;
+			for (int i = index.start[u]; i < index.start[u + 1]; i++)
+				order[tail++] = index.children[i];
+		}
+
+		int[] kids = new int[16];
+		long[] keys = new long[16];
+		for (int k = tail - 1; k >= 0; k--) {
+			int u = order[k];
+			int b = trie.base(u);
+			if (b < 0) {
+				// tail 节点, 整个后缀是一个词
+				table[u * STRIDE + WEIGHT] = weightOf.applyAsInt(trie.tailValue(-b - 1));
+				continue;
+			}
+			int n = 0;
+			int value = trie.valueAt(u);
+			if (value >= 0) {
+				table[b * STRIDE + WEIGHT] = weightOf.applyAsInt(value);
+				kids[n++] = b;
+			}
+			for (int i = index.start[u]; i < index.start[u + 1]; i++) {
+				if (n == kids.length)
+					kids = Arrays.copyOf(kids, n * 2);
+				kids[n++] = index.children[i];
+			}
+			keys = sortByWeight(table, kids, n, keys);
+			for (int i = 0; i < n; i++)
+				table[kids[i] * STRIDE + NEXT] = i + 1 < n ? kids[i + 1] : 0;
+			table[u * STRIDE + FIRST] = n > 0 ? kids[0] : 0;
+			table[u * STRIDE + WEIGHT] = n > 0 ? table[kids[0] * STRIDE + WEIGHT] : Integer.MIN_VALUE;
+		}
+		return table;
+	}
+
+	/**
+	 * 按权重从大到小, 权重相同时按下标(即字符编码)从小到大.
+	 * 权重和下标拼成一个 long 排序: 高位是 Integer.MAX_VALUE - 权重, 低 31 位是下标
+	 */
+	private static long[] sortByWeight(int[] table, int[] kids, int n, long[] keys) {
+		if (keys.length < n)
+			keys = new long[Math.max(n, keys.length * 2)];
+		for (int i = 0; i < n; i++)
+			keys[i] = ((0x7fffffffL - table[kids[i] * STRIDE + WEIGHT]) << 31) | kids[i];
+		Arrays.sort(keys, 0, n);
+		for (int i = 0; i < n; i++)
+			kids[i] = (int) (keys[i] & 0x7fffffff);
+		return keys;
+	}
+
+	/**
+	 * 以 prefix 开头的权重最大的 k 个词, 按权重从大到小, 权重相同时按字符编码顺序
+	 */
+	static List<TrieResult> search(DoubleArrayTrie trie, IntArray table, String prefix, int k) {
+		List<TrieResult> result = new ArrayList<TrieResult>();
+		int limit = Math.min(trie.size, table.length() / STRIDE);
+		if (k <= 0 || limit == 0)
+			return result;
+
+		int s = 0;
+		for (int i = 0; i < prefix.length(); i++) {
+			int b = trie.base(s);
+			int p = b + trie.codeOf(prefix.charAt(i));
+			if (p >= limit || trie.check(p) != b)
+				return result;
+			s = p;
+			int nb = trie.base(s);
+			if (nb < 0) {
+				// 后缀在 tail 中, 前缀的其余部分要是后缀的开头, 结果只有这一个词
+				int t = -nb - 1;
+				CharBuffer tl = trie.tail;
+				int len = tl.get(t);
+				int rest = prefix.length() - i - 1;
+				if (rest > len)
+					return result;
+				StringBuilder key = new StringBuilder(prefix.length() + len - rest).append(prefix, 0, i + 1);
+				for (int j = 0; j < len; j++) {
+					char c = tl.get(t + 1 + j);
+					if (j < rest && c != prefix.charAt(i + 1 + j))
+						return result;
+					key.append(c);
+				}
+				result.add(toResult(key.toString(), trie.tailValue(t)));
+				return result;
+			}
+		}
+
+		Queue queue = new Queue(table);
+		queue.push(table.get(s * STRIDE + FIRST), -1);
+		char[] path = new char[16];
+		while (queue.size > 0 && result.size() < k) {
+			if (path.length < queue.depthLimit)
+				path = new char[queue.depthLimit * 2];
+			int e = queue.pop();
+			int slot = queue.slots[e];
+			int parent = queue.parents[e];
+			int next = table.get(slot * STRIDE + NEXT);
+			if (next != 0)
+				queue.push(next, parent);
+			int parentSlot = parent < 0 ? s : queue.slots[parent];
+			int b = trie.base(slot);
+			if (slot == trie.base(parentSlot)) {
+				// 结束符单元
+				int n = queue.path(trie, s, parent, path);
+				result.add(toResult(key(prefix, path, n).toString(), -b - 1));
+			} else if (b < 0) {
+				int t = -b - 1;
+				int n = queue.path(trie, s, e, path);
+				StringBuilder key = key(prefix, path, n);
+				CharBuffer tl = trie.tail;
+				for (int j = 0, len = tl.get(t); j < len; j++)
+					key.append(tl.get(t + 1 + j));
+				result.add(toResult(key.toString(), trie.tailValue(t)));
+			} else {
+				queue.push(table.get(slot * STRIDE + FIRST), e);
+			}
+		}
+		return result;
+	}
+
+	private static StringBuilder key(String prefix, char[] path, int n) {
+		StringBuilder sb = new StringBuilder(prefix.length() + n + 8);
+		sb.append(prefix);
+		// path 是从下往上收集的
+		for (int i = n - 1; i >= 0; i--)
+			sb.append(path[i]);
+		return sb;
+	}
+
+	private static TrieResult toResult(String key, int value) {
+		TrieResult r = new TrieResult();
+		r.word = key;
+		r.value = value;
+		r.offset = 0;
+		r.len = key.length();
+		return r;
+	}
+
+	/**
+	 * 搜索用的最大堆. 每个元素是一个单元和它的父元素, 父元素用来还原从起点到这个单元的字符
+	 */
+	private static final class Queue {
+		final IntArray table;
+		int[] slots = new int[64];
+		int[] parents = new int[64];
+		int[] depths = new int[64];
+		int count;
+		int[] heap = new int[64];
+		int size;
+		/**
+		 * 已经放入的元素的最大深度, 还原字符时需要这么长的缓存
+		 */
+		int depthLimit;
+
+		Queue(IntArray table) {
+			this.table = table;
+		}
+
+		void push(int slot, int parent) {
+			if (slot == 0)
+				return;
+			if (count == slots.length) {
+				slots = Arrays.copyOf(slots, count * 2);
+				parents = Arrays.copyOf(parents, count * 2);
+				depths = Arrays.copyOf(depths, count * 2);
+			}
+			int e = count++;
+			slots[e] = slot;
+			parents[e] = parent;
+			depths[e] = parent < 0 ? 1 : depths[parent] + 1;
+			depthLimit = Math.max(depthLimit, depths[e]);
+			if (size == heap.length)
+				heap = Arrays.copyOf(heap, size * 2);
+			int i = size++;
+			while (i > 0) {
+				int up = (i - 1) >> 1;
+				if (!before(e, heap[up]))
+					break;
+				heap[i] = heap[up];
+				i = up;
+			}
+			heap[i] = e;
+		}
+
+		int pop() {
+			int top = heap[0];
+			int last = heap[--size];
+			int i = 0;
+			while (true) {
+				int c = 2 * i + 1;
+				if (c >= size)
+					break;
+				if (c + 1 < size && before(heap[c + 1], heap[c]))
+					c++;
+				if (!before(heap[c], last))
+					break;
+				heap[i] = heap[c];
+				i = c;
+			}
+			heap[i] = last;
+			return top;
+		}
+
+		/**
+		 * 权重大的在前, 相同时先放入的在前
+		 */
+		private boolean before(int a, int b) {
+			int wa = table.get(slots[a] * STRIDE + WEIGHT);
+			int wb = table.get(slots[b] * STRIDE + WEIGHT);
+			return wa > wb || wa == wb && a < b;
+		}
+
+		/**
+		 * 从元素 e 向上到起点 s 经过的字符, 倒序放入 path
+		 * @return 字符个数
+		 */
+		int path(DoubleArrayTrie trie, int s, int e, char[] path) {
+			int n = 0;
+			while (e >= 0) {
+				int parent = parents[e];
+				int parentSlot = parent < 0 ? s : slots[parent];
+				path[n++] = trie.charOf(slots[e] - trie.base(parentSlot));
+				e = parent;
+			}
+			return n;
+		}
+	}
+}
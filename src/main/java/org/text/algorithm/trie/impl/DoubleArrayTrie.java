@@ -1,469 +1,2907 @@
-package org.text.algorithm.trie.impl;
-
-
-import org.text.algorithm.HitCallback;
-import org.text.algorithm.SubMatcher;
-import org.text.algorithm.trie.Trie;
-import org.text.algorithm.utils.ByteUtil;
-
-import java.io.*;
-import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
-import java.util.ArrayList;
-import java.util.List;
-
-//代码来自
-//https://github.com/komiya-atsushi/darts-java
-//是一个日本人将c++实现转换为java 实现
-//缺点: 要求输入是排序的!!!!
-
-public final class  DoubleArrayTrie implements Trie, Externalizable {
-	private static final long serialVersionUID = 2L;
-
-	private final static int UNIT_SIZE = 8; // size of int + int
-
-	protected int size;
-	protected int check[];
-	protected int base[];
-	
-	public DoubleArrayTrie() {
-		check = null;
-		base = null;
-		size = 0;
-	}
-	
-	
-	// no deconstructor
-
-	// set_result omitted
-	// the model methods returns (the list of) the value(s) instead
-	// of (the list of) the pair(s) of value(s) and length(s)
-
-	// set_array omitted
-	// array omitted
-
-	void clear() {
-		check = null;
-		base = null;
-		size = 0;
-	}
-
-	public int getUnitSize() {
-		return UNIT_SIZE;
-	}
-
-	public int getSize() {
-		return size;
-	}
-
-	public int getTotalSize() {
-		return size * UNIT_SIZE;
-	}
-
-	public int getNonzeroSize() {
-		int result = 0;
-		for (int i = 0; i < size; i++)
-			if (check[i] != 0)
-				result++;
-		return result;
-	}
-
-	public void attach(int check[], int base[], int size) {
-		this.check = check;
-		this.base = base;
-		this.size = size;
-	}
-	
-	public int[] getCheck() {
-		return check;
-	}
-	
-	public int[] getBase() {
-		return base;
-	}
-
-	@Override
-	public void open(String fileName) throws IOException {
-		openFast(fileName);
-	}
-	
-	public void openFast(String fileName) throws IOException {
-		FileInputStream fis = new FileInputStream(fileName);
-        // 1.从FileInputStream对象获取文件通道FileChannel
-        FileChannel channel = fis.getChannel();
-        int fileSize = (int) channel.size();
-     
-        // 2.从通道读取文件内容
-        ByteBuffer byteBuffer = ByteBuffer.allocate(fileSize);
-
-        // channel.read(ByteBuffer) 方法就类似于 inputstream.read(byte)
-        // 每次read都将读取 allocate 个字节到ByteBuffer
-        channel.read(byteBuffer);
-        // 注意先调用flip方法反转Buffer,再从Buffer读取数据
-        byteBuffer.flip();
-        // 有几种方式可以操作ByteBuffer
-        // 可以将当前Buffer包含的字节数组全部读取出来
-        byte[] bytes = byteBuffer.array();
-        byteBuffer.clear();
-        // 关闭通道和文件流
-        channel.close();
-        fis.close();
-        
-        int index = 0;
-        size = ByteUtil.bytesHighFirstToInt(bytes, index);
-        index += 4;
-        base = new int[size];
-        check = new int[size];
-        for (int i = 0; i < size; i++)
-        {
-            base[i] = ByteUtil.bytesHighFirstToInt(bytes, index);
-            index += 4;
-            check[i] = ByteUtil.bytesHighFirstToInt(bytes, index);
-            index += 4;
-        }
-
-	}
-
-	@Override
-	public void save(String fileName) throws IOException {
-		DataOutputStream out = null;
-		try {
-			out = new DataOutputStream(new BufferedOutputStream(
-					new FileOutputStream(fileName)));
-			write(out);
-			out.close();
-		} finally {
-			if (out != null)
-				out.close();
-		}
-	}
-	
-	public void load(DataInput is) throws IOException {
-		size = is.readInt();
-		check = new int[size];
-		base = new int[size];
-		for (int i = 0; i < size; i++) {
-			base[i] = is.readInt();
-			check[i] = is.readInt();
-		}
-	}
-	
-	public void write(DataOutput out) throws IOException {
-		out.writeInt(size);
-		for (int i = 0; i < size; i++) {
-			out.writeInt(base[i]);
-			out.writeInt(check[i]);
-		}
-	}
-
-	@Override
-	public int exactMatchSearch(String key) {
-		return exactMatchSearch(key.toCharArray(), 0, 0, 0);
-	}
-
-	@Override
-	public int exactMatchSearch(char[] code, int pos, int end, int nodePos) {
-		if (end <= 0)
-			end = code.length;
-		if (nodePos <= 0)
-			nodePos = 0;
-
-		if(base.length == 0) {
-			return -1;
-		}
-
-		int result = -1;
-		int b = base[nodePos];
-        int p;
-
-        for (int i = pos; i < end; i++)
-        {
-            p = b + (int) (code[i]) + 1;
-            if (p < size && b == check[p])
-                b = base[p];
-            else
-                return result;
-        }
-
-        p = b;
-        int n = base[p];
-        if (b == check[p] && n < 0)
-        {
-            result = -n - 1;
-        }
-        return result;
-	}
-
-	@Override
-	public int get(char[] key, int start, int end) {
-		return exactMatchSearch(key, start, end, 0);
-	}
-
-	@Override
-	public int get(String key) {
-		return exactMatchSearch(key);
-	}
-
-	@Override
-	public List<TrieResult> commonPrefixSearch(String key) {
-		return commonPrefixSearch(key.toCharArray(), 0, key.length(), 0);
-	}
-
-	@Override
-	public List<TrieResult> commonPrefixSearch(char[] code, int pos, int end,
-			int nodePos) {
-		List<TrieResult> result = new ArrayList<TrieResult>();
-		if(base.length == 0) {
-			return result;
-		}
-		
-		int b = base[nodePos];
-		
-		char c0;
-		for (int i = pos; i < end; i++) {
-			c0 = code[i];
-			//
-			int p = b + (int) (c0) + 1;
-			if (p < size && b == check[p]) {
-				b = base[p];
-				p = b;
-				
-				int n = base[p];
-				if(n < 0) {
-					TrieResult r = new TrieResult();
-					r.word = new String(code, pos, i + 1- pos);
-					r.offset = pos;
-					r.len = i + 1 - pos;
-					r.value = -n - 1;
-					result.add(r);
-				}
-				
-			} else {
-				break;
-			}
-		}
-		
-		return result;
-	}
-	
-	
-	// debug
-	public void dump() {
-		for (int i = 0; i < size; i++) {
-			System.err.println("i: " + i + " [" + base[i] + ", " + check[i]
-					+ "]");
-		}
-	}
-	
-	@Override
-	public TrieResult matchOne(String text) {
-		return matchOne(text.toCharArray(), 0, text.length());
-	}
-	
-	@Override
-	public List<TrieResult> matchAll(String text) {
-		return matchAll(text.toCharArray(), 0, text.length());
-	}
-	
-	@Override
-	public TrieResult matchOne(char[] code, int offset, int end) {
-		int i = offset;
-		while(i< end) {
-			List<TrieResult> r = commonPrefixSearch(code, i,  end, 0);
-			if(r != null && r.size() > 0)
-				return r.get(r.size() -1);
-			i++;
-		}
-		
-		return null;
-	}
-	
-	//add by haojing
-	public TrieResult searchBest(char[] code, int offset, int end)
-	{	
-		return commonPrefixBestSearch(code, offset,  end, 0);
-	}
-	
-	public TrieResult commonPrefixBestSearch(char[] code, int pos, int end,
-			int nodePos)
-	{
-		if(base.length == 0) {
-			return null;
-		}
-
-		TrieResult r = new TrieResult();
-		r.offset = -1;
-		
-		int b = base[nodePos];
-		
-		char c0;
-		for (int i = pos; i < end; i++) {
-			c0 = code[i];
-			//
-			int p = b + (int) (c0) + 1;
-			if (p < size && b == check[p]) {
-				b = base[p];
-				p = b;
-				
-				int n = base[p];
-				if(n < 0) {
-					r.offset = pos;
-					r.len = i + 1 - pos;
-					r.value = -n - 1;
-				}
-			} else {
-				break;
-			}
-		}
-		
-		if(r.offset != -1) {
-			r.word = new String(code, r.offset, r.len);
-		} else 
-			r = null;
-		return r;
-	}
-	
-	@Override
-	public List<TrieResult> matchAll(char[] code, int offset, int end) {
-		List<TrieResult> r = new ArrayList<TrieResult>();
-		
-		int i = offset;
-		while(i< end) {
-			List<TrieResult> items = commonPrefixSearch(code, i,  end, 0);
-			if(items != null && items.size() > 0){
-				r.addAll(items);
-			}
-			i++;
-		}
-		
-		return r;
-	}
-
-	@Override
-	public void writeExternal(ObjectOutput out) throws IOException {
-		write(out);
-	}
-
-	@Override
-    public void readExternal(ObjectInput in) throws IOException {
-		load(in);
-	}
-
-	@Override
-	public SubMatcher newMatcher(char[] key, int pos, int end, HitCallback callback) {
-		return new CharInnerMatcher(key, pos, end, callback);
-	}
-
-	@Override
-	public SubMatcher newMatcher(String key, int pos, int end, HitCallback callback) {
-		return new StringInnerMatcher(key, pos, end, callback);
-	}
-
-	public abstract class InnerMatcher implements SubMatcher {
-		int start;
-		int end;
-		HitCallback callback;
-
-		boolean stop;
-
-		public InnerMatcher(int start, int end, HitCallback callback) {
-			this.start = start;
-			this.end = end;
-			this.callback = callback;
-		}
-
-		@Override
-		public int matchPrefix(int pos) {
-			if (base.length == 0) {
-				return 0;
-			}
-			stop = false;
-			int count = 0;
-			count += matchTrie(pos, base[0], size);
-			return count;
-		}
-
-		@Override
-		public int matchAll(int pos) {
-			stop = false;
-			int count = 0;
-			int startBase = base[0];
-			for (int i = pos; i < end; i++) {
-				count += matchTrie(i, startBase, size);
-				if (stop) {
-					break;
-				}
-			}
-			return count;
-		}
-
-		int matchTrie(int pos, int baseStart, int baseLimit) {
-			int b = baseStart;
-			int count = 0;
-			char c0;
-			for (int i = pos; i < end; i++) {
-				c0 = getInput(i);
-				//
-				int p = b + (int) (c0) + 1;
-				if (p < baseLimit && b == check[p]) {
-					b = base[p];
-					p = b;
-					int n = base[p];
-					if (n < 0) {
-						count++;
-						if (!callback.hit(pos, i + 1 - pos, -n - 1)) {
-							stop = true;
-							break;
-						}
-					}
-				} else {
-					break;
-				}
-			}
-			return count;
-		}
-
-		abstract char getInput(int index);
-	}
-
-	private class CharInnerMatcher extends InnerMatcher {
-		char[] keys;
-
-		public CharInnerMatcher(char[] keys, HitCallback callback) {
-			super(0, keys.length, callback);
-			this.keys = keys;
-		}
-
-		public CharInnerMatcher(char[] keys, int start, int end, HitCallback callback) {
-			super(start, end, callback);
-			this.keys = keys;
-		}
-
-
-		@Override
-		char getInput(int index) {
-			return keys[index];
-		}
-	}
-
-	private class StringInnerMatcher extends InnerMatcher {
-		String key;
-
-		public StringInnerMatcher(String key, HitCallback callback) {
-			super(0, key.length(), callback);
-			this.key = key;
-		}
-
-		public StringInnerMatcher(String key, int start, int end, HitCallback callback) {
-			super(start, end, callback);
-			this.key = key;
-		}
-
-		@Override
-		char getInput(int index) {
-			return key.charAt(index);
-		}
-	}
-}
-
-
+package org.text.algorithm.trie.impl;
+
+
+import org.text.algorithm.CharFolding;
+import org.text.algorithm.HitBuffer;
+import org.text.algorithm.HitCallback;
+import org.text.algorithm.StreamHitCallback;
+import org.text.algorithm.StreamMatcher;
+import org.text.algorithm.SubMatcher;
+import org.text.algorithm.trie.Trie;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.zip.CRC32;
+
+//代码来自
+//https://github.com/komiya-atsushi/darts-java
+//是一个日本人将c++实现转换为java 实现
+//缺点: 要求输入是排序的!!!!
+
+public final class  DoubleArrayTrie implements Trie, Externalizable {
+	private static final long serialVersionUID = 2L;
+
+	private final static int UNIT_SIZE = 8; // size of int + int
+
+	/**
+	 * 字符转移编码的上限: 没有编码表时字符编码为 c + 1, 结束符为 0
+	 */
+	private final static int MAX_CODE = Character.MAX_VALUE + 1;
+
+	/**
+	 * 编码表中不存在的字符的编码, 足够大, 转移时 p 一定超出 size, 不需要单独判断
+	 */
+	final static int UNMAPPED = 1 << 30;
+
+	/**
+	 * 文件格式: 32 字节的文件头, 之后是数据部分: base/check 单元和附加段, 都是 little-endian,
+	 * 和内存中 int 的排列一致, 可以整块读写, 映射后直接使用.
+	 * 文件头: [magic] [版本] [单元个数] [最长 key 的长度] [数据部分字节数, long] [数据部分的 CRC32] [文件头前 28 字节的 CRC32].
+	 * 旧格式没有文件头, 只有 big-endian 的单元个数和单元, 没有附加段; magic 按 big-endian 读是负数, 不会和它混淆
+	 */
+	private final static int FORMAT_MAGIC = 0x54414489; // 字节 0x89 'D' 'A' 'T'
+	private final static int FORMAT_VERSION = 2;
+	private final static int HEADER_SIZE = 32;
+
+	/**
+	 * 新格式中 base/check 之后附加的数据段: [段数] ([标记] [int 个数] [数据])*
+	 * 读取时忽略不认识的段. 最长 key 的长度在文件头中
+	 */
+	private final static int SECTION_AHO_CORASICK = 1;
+	private final static int SECTION_TAIL = 2;
+	private final static int SECTION_ALPHABET = 3;
+	private final static int SECTION_REVERSE = 4;
+	private final static int SECTION_PAYLOAD = 6;
+	private final static int SECTION_COMPLETION = 7;
+	private final static int SECTION_FOLDING = 8;
+	private final static int SECTION_BLOOM = 9;
+	private final static int SECTION_KEY_INDEX = 10;
+
+	/**
+	 * 批量查询时一组同时推进的 key 个数
+	 */
+	private final static int BATCH_LANES = 8;
+
+	/**
+	 * insert/remove 时会修改 size, 每次查询开始时读一次, 见 {@link #insert}
+	 */
+	protected volatile int size;
+
+	/**
+	 * base/check 交错存放: 单元 i 的 base 为 units[2i], check 为 units[2i + 1],
+	 * 查询每走一步只访问一处内存. openMapped 模式下为 null.
+	 * 扩容时整个换成新数组, volatile 保证读到新数组的查询也能看到复制过去的内容
+	 */
+	protected volatile int units[];
+
+	/**
+	 * openMapped 模式下直接指向文件内容的只读视图, 布局同 units; 堆模式下为 null
+	 */
+	protected IntBuffer mappedUnits;
+
+	/**
+	 * 单分支后缀压缩, 见 {@link DoubleArrayTrieBuilder#setTailCompression}, 没有压缩时为 null.
+	 * 由字符转移到达的节点 base 为负时, -base - 1 是它在 tail 中的位置:
+	 * [后缀长度] [后缀字符]... [值的高 16 位] [值的低 16 位].
+	 * 这时位置 b 上可能是别的节点下的 tail 节点, base 同样为负, 所以判断词尾要求 check(b) == b
+	 */
+	protected CharBuffer tail;
+
+	/**
+	 * 字符编码表, 见 {@link DoubleArrayTrieBuilder#setAlphabetRemap}; 为 null 时字符 c 的编码为 c + 1.
+	 * alphabet 按编码顺序列出字符, 第 i 个字符的编码为 i + 1; codeTable 是它的反查表, 其余字符为 UNMAPPED.
+	 * insert 加入新字符时 alphabet 可能换成更长的数组, 和 units 一样是 volatile 的
+	 */
+	protected int codeTable[];
+	protected volatile char alphabet[];
+	protected int alphabetSize;
+
+	/**
+	 * 字符归一化表, 见 {@link DoubleArrayTrieBuilder#setFolding}; 为 null 时不做归一化.
+	 * 存入的 key 已经归一化, 查询时每个输入字符先查这个表再转换成编码
+	 */
+	protected char folding[];
+
+	/**
+	 * Aho-Corasick 失败/输出链接, 见 {@link AhoCorasick}, 没有构建时为 null
+	 */
+	protected IntArray acTable;
+
+	/**
+	 * 前缀补全用的节点标注, 见 {@link Completion}, 没有构建时为 null
+	 */
+	protected IntArray completionTable;
+
+	/**
+	 * 由值反查词的索引, 见 {@link KeyIndex}, 没有构建时为 null
+	 */
+	protected IntArray keyTable;
+
+	/**
+	 * 精确查询前用的分块布隆过滤器, 见 {@link #buildBloomFilter}, 没有构建时为 null
+	 */
+	protected BloomFilter bloomFilter;
+
+	/**
+	 * 模糊查找时枚举子节点用, 第一次用到时构建, 修改后过期, 重新打开后丢弃
+	 */
+	private volatile CachedChildIndex childIndex;
+
+	/**
+	 * 能作为词首的字符, 扫描时跳过其它位置, 见 {@link #startChars()}. 第一次用到时构建, 重新打开后丢弃
+	 */
+	private volatile StartChars startChars;
+
+	/**
+	 * insert/remove 的次数, 延迟构建的 startChars 和 childIndex 用它判断是否过期
+	 */
+	private volatile int modCount;
+
+	/**
+	 * 正在进行的查询, insert 回收单元前等待它们结束, 见 {@link #insert}
+	 */
+	private final ReaderGate readers = new ReaderGate();
+
+	/**
+	 * 所有词逐字符倒序后构建的 trie, 逆向最大匹配使用, 见 {@link #buildReverse}; 没有构建时为 null.
+	 * 不做后缀压缩也不用编码表, 随 save 一起保存, insert/remove 时同步修改
+	 */
+	protected DoubleArrayTrie reverse;
+
+	/**
+	 * 最长的词的长度, 未知时为 -1, 第一次用到时遍历计算. remove 后不减小, 仍然是上限
+	 */
+	protected volatile int maxKeyLength;
+
+	private static final AtomicIntegerFieldUpdater<DoubleArrayTrie> MAX_KEY_LENGTH =
+			AtomicIntegerFieldUpdater.newUpdater(DoubleArrayTrie.class, "maxKeyLength");
+
+	/**
+	 * 按值编号存放的附加数据, 见 {@link PayloadStore}, 没有时为 null
+	 */
+	protected PayloadStore payloads;
+
+	/**
+	 * insert/remove 使用: 正在作为 base 使用的位置, 第一次修改时从数组中恢复
+	 */
+	private BitSet usedBase;
+	private int freeHint;
+
+	/**
+	 * 已经摘下但还没有回收的单元和 base: 摘下之前开始的查询可能还在读它们,
+	 * 下一次 insert 等这些查询结束后才清空, 期间不会分配给别的节点
+	 */
+	private ArrayDeque<Retired> retired;
+
+	/**
+	 * 摘下时 check 已经清零、还没有回收的单元, 分配时当作占用
+	 */
+	private BitSet pending;
+
+	private static final class Retired {
+		final int[] slots;
+		final int[] bases;
+
+		Retired(int[] slots, int[] bases) {
+			this.slots = slots;
+			this.bases = bases;
+		}
+	}
+
+	private static final class CachedChildIndex {
+		final int modCount;
+		final ChildIndex index;
+
+		CachedChildIndex(int modCount, ChildIndex index) {
+			this.modCount = modCount;
+			this.index = index;
+		}
+	}
+	
+	public DoubleArrayTrie() {
+		units = null;
+		mappedUnits = null;
+		tail = null;
+		acTable = null;
+		completionTable = null;
+		keyTable = null;
+		bloomFilter = null;
+		payloads = null;
+		maxKeyLength = -1;
+		size = 0;
+	}
+	
+	
+	// no deconstructor
+
+	// set_result omitted
+	// the model methods returns (the list of) the value(s) instead
+	// of (the list of) the pair(s) of value(s) and length(s)
+
+	// set_array omitted
+	// array omitted
+
+	void clear() {
+		units = null;
+		mappedUnits = null;
+		tail = null;
+		setAlphabet(null, 0);
+		folding = null;
+		acTable = null;
+		completionTable = null;
+		keyTable = null;
+		bloomFilter = null;
+		childIndex = null;
+		startChars = null;
+		reverse = null;
+		payloads = null;
+		maxKeyLength = -1;
+		usedBase = null;
+		size = 0;
+	}
+
+	final int base(int index) {
+		int[] u = units;
+		return u != null ? u[index << 1] : mappedUnits.get(index << 1);
+	}
+
+	final int check(int index) {
+		int[] u = units;
+		return u != null ? u[(index << 1) + 1] : mappedUnits.get((index << 1) + 1);
+	}
+
+	/**
+	 * 字符的转移编码
+	 */
+	final int codeOf(char c) {
+		char[] f = folding;
+		if (f != null)
+			c = f[c];
+		int[] t = codeTable;
+		return t != null ? t[c] : c + 1;
+	}
+
+	/**
+	 * 归一化后的字符
+	 */
+	final char fold(char c) {
+		char[] f = folding;
+		return f != null ? f[c] : c;
+	}
+
+	final String fold(String s) {
+		char[] f = folding;
+		return f != null ? CharFolding.of(f).fold(s) : s;
+	}
+
+	/**
+	 * 设置字符归一化表, key 必须已经按它归一化
+	 * @param folding null 表示不做归一化
+	 */
+	void setFolding(char folding[]) {
+		this.folding = folding;
+	}
+
+	/**
+	 * 字符归一化表, 没有时为 null. 查询结果中的 key (例如 complete、fuzzySearch 返回的词) 是归一化后的
+	 * @return
+	 */
+	public CharFolding getFolding() {
+		char[] f = folding;
+		return f != null ? CharFolding.of(f) : null;
+	}
+
+	public boolean hasFolding() {
+		return folding != null;
+	}
+
+	private int maxCode() {
+		return codeTable != null ? alphabetSize : MAX_CODE;
+	}
+
+	/**
+	 * 设置字符编码表
+	 * @param alphabet 按编码顺序排列的字符, null 表示不使用编码表
+	 * @param n 字符个数
+	 */
+	void setAlphabet(char alphabet[], int n) {
+		if (alphabet == null) {
+			this.codeTable = null;
+			this.alphabet = null;
+			this.alphabetSize = 0;
+			return;
+		}
+		int[] table = new int[Character.MAX_VALUE + 1];
+		Arrays.fill(table, UNMAPPED);
+		for (int i = 0; i < n; i++)
+			table[alphabet[i]] = i + 1;
+		this.alphabet = alphabet;
+		this.alphabetSize = n;
+		this.codeTable = table;
+	}
+
+	/**
+	 * 是否使用了字符编码表
+	 * @return
+	 */
+	public boolean hasAlphabet() {
+		return codeTable != null;
+	}
+
+	/**
+	 * tail 中位置 t 的后缀与 code[from, end) 的开头比较
+	 * @return 后缀完全匹配时返回后缀长度, 否则返回 -1
+	 */
+	private int matchTail(int t, char[] code, int from, int end) {
+		CharBuffer tl = tail;
+		int len = tl.get(t);
+		if (len > end - from)
+			return -1;
+		for (int k = 0; k < len; k++) {
+			if (tl.get(t + 1 + k) != fold(code[from + k]))
+				return -1;
+		}
+		return len;
+	}
+
+	/**
+	 * tail 中位置 t 的后缀是否与 key 从 from 开始的剩余部分完全相同
+	 */
+	private boolean matchTail(int t, CharSequence key, int from) {
+		CharBuffer tl = tail;
+		int len = tl.get(t);
+		if (len != key.length() - from)
+			return false;
+		for (int k = 0; k < len; k++) {
+			if (tl.get(t + 1 + k) != fold(key.charAt(from + k)))
+				return false;
+		}
+		return true;
+	}
+
+	int tailValue(int t) {
+		CharBuffer tl = tail;
+		int len = tl.get(t);
+		return (tl.get(t + 1 + len) << 16) | tl.get(t + 2 + len);
+	}
+
+	/**
+	 * 节点 s 是词尾时返回对应的值, 否则返回 -1
+	 */
+	final int valueAt(int s) {
+		int b = base(s);
+		if (b > 0 && b < size && check(b) == b) {
+			int n = base(b);
+			if (n < 0)
+				return -n - 1;
+		}
+		return -1;
+	}
+
+	private static final class StartChars {
+		final int modCount;
+		final long[] bits;
+
+		StartChars(int modCount, long[] bits) {
+			this.modCount = modCount;
+			this.bits = bits;
+		}
+	}
+
+	/**
+	 * 能作为词首的输入字符, 每个字符一位, 共 8KB: 字符 c 对应 bits[c >>> 6] 的第 (c & 63) 位.
+	 * 直接用根节点的转移判断, 归一化和编码表都已考虑在内. 修改后下次用到时重新构建
+	 */
+	final long[] startChars() {
+		StartChars t = startChars;
+		int m = modCount;
+		if (t == null || t.modCount != m) {
+			// 构建期间如果又有修改, modCount 不同, 下次还会重新构建
+			long[] bits = new long[(Character.MAX_VALUE + 1) >>> 6];
+			int limit = size;
+			if (limit > 0) {
+				int b = base(0);
+				for (int c = 0; c <= Character.MAX_VALUE; c++) {
+					int p = b + codeOf((char) c);
+					if (p < limit && check(p) == b)
+						bits[c >>> 6] |= 1L << c;
+				}
+			}
+			t = new StartChars(m, bits);
+			startChars = t;
+		}
+		return t.bits;
+	}
+
+	/**
+	 * 是否是 openMapped 打开的只读映射
+	 * @return
+	 */
+	public boolean isMapped() {
+		return mappedUnits != null;
+	}
+
+	/**
+	 * 是否做了单分支后缀压缩
+	 * @return
+	 */
+	public boolean hasTail() {
+		return tail != null;
+	}
+
+	public int getUnitSize() {
+		return UNIT_SIZE;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public int getTotalSize() {
+		return size * UNIT_SIZE + (tail != null ? tail.limit() * 2 : 0);
+	}
+
+	public int getNonzeroSize() {
+		int result = 0;
+		for (int i = 0; i < size; i++)
+			if (check(i) != 0)
+				result++;
+		return result;
+	}
+
+	public void attach(int check[], int base[], int size) {
+		attach(check, base, size, null);
+	}
+
+	/**
+	 * 使用构建好的数组, 数组只取前 size 个单元, 构建时多分配的部分不保留
+	 * @param check
+	 * @param base
+	 * @param size
+	 * @param tail 后缀压缩数据, 没有时为 null
+	 */
+	public void attach(int check[], int base[], int size, char tail[]) {
+		int[] u = new int[size * 2];
+		for (int i = 0; i < size; i++) {
+			u[i << 1] = base[i];
+			u[(i << 1) + 1] = check[i];
+		}
+		this.units = u;
+		this.mappedUnits = null;
+		this.tail = tail != null ? CharBuffer.wrap(tail) : null;
+		setAlphabet(null, 0);
+		this.folding = null;
+		this.acTable = null;
+		this.completionTable = null;
+		this.keyTable = null;
+		this.bloomFilter = null;
+		this.childIndex = null;
+		this.startChars = null;
+		this.reverse = null;
+		this.payloads = null;
+		this.maxKeyLength = -1;
+		this.usedBase = null;
+		this.size = size;
+	}
+
+	/**
+	 * 构建 Aho-Corasick 失败链接和输出链接, 之后 matchAll 只需从左到右扫描一遍文本.
+	 * 链接随 save 一起保存, 打开时不需要重新构建.
+	 */
+	public void buildAhoCorasick() {
+		if (tail != null)
+			throw new UnsupportedOperationException("Aho-Corasick is not supported on tail compressed trie");
+		acTable = IntArray.of(AhoCorasick.build(this));
+	}
+
+	public boolean hasAhoCorasick() {
+		return acTable != null;
+	}
+
+	/**
+	 * 以值作为权重构建前缀补全的标注, 见 {@link #buildCompletion(IntUnaryOperator)}
+	 */
+	public void buildCompletion() {
+		buildCompletion(v -> v);
+	}
+
+	/**
+	 * 构建前缀补全的标注: 每个节点记录子树中最大的权重, 子节点按权重排好顺序,
+	 * 之后 complete 按权重优先搜索, 不遍历整个子树. 标注随 save 一起保存, 修改后失效, 需要时重新构建
+	 * @param weightOf 由词的值得到权重
+	 */
+	public void buildCompletion(IntUnaryOperator weightOf) {
+		completionTable = IntArray.of(Completion.build(this, weightOf));
+	}
+
+	public boolean hasCompletion() {
+		return completionTable != null;
+	}
+
+	/**
+	 * 构建由值反查词的索引, 之后 {@link #keyOf} 和 {@link #appendKey} 不需要另外保存词表.
+	 * 每个值一个 int, 每个单元一个 int; 索引随 save 一起保存, 修改后失效, 需要时重新构建
+	 */
+	public void buildKeyIndex() {
+		keyTable = IntArray.of(KeyIndex.build(this));
+	}
+
+	public boolean hasKeyIndex() {
+		return keyTable != null;
+	}
+
+	/**
+	 * 反查索引占用的字节数, 没有时为 0
+	 * @return
+	 */
+	public int getKeyIndexSize() {
+		IntArray table = keyTable;
+		return table != null ? table.length() * 4 : 0;
+	}
+
+	/**
+	 * 值为 value 的词, 从词尾沿 check 走回根节点拼出来. 有归一化时是归一化后的词,
+	 * 多个词的值相同时是其中之一. 需要先 buildKeyIndex
+	 * @param value
+	 * @return 没有这个值时为 null
+	 */
+	public String keyOf(int value) {
+		StringBuilder sb = new StringBuilder();
+		return appendKey(value, sb) ? sb.toString() : null;
+	}
+
+	/**
+	 * 同 {@link #keyOf}, 词追加到 out, 不创建字符串
+	 * @param value
+	 * @param out
+	 * @return 没有这个值时返回 false, out 不变
+	 */
+	public boolean appendKey(int value, StringBuilder out) {
+		IntArray table = keyTable;
+		if (table == null)
+			throw new IllegalStateException("key index not built, call buildKeyIndex first");
+		int token = readers.enter();
+		try {
+			return KeyIndex.append(this, table, value, out);
+		} finally {
+			readers.exit(token);
+		}
+	}
+
+	/**
+	 * 构建精确查询用的布隆过滤器, 见 {@link BloomFilter}: 之后 get/exactMatchSearch 先查过滤器,
+	 * 大部分不存在的 key 只访问一处内存就返回. 过滤器随 save 一起保存,
+	 * insert 时同步加入新词, remove 后仍然有效, 只是误判率不会下降
+	 * @param falsePositiveRate 期望的误判率, 例如 0.01
+	 */
+	public void buildBloomFilter(double falsePositiveRate) {
+		bloomFilter = BloomFilter.build(this, falsePositiveRate);
+	}
+
+	public boolean hasBloomFilter() {
+		return bloomFilter != null;
+	}
+
+	/**
+	 * 布隆过滤器的误判率, 即不存在的 key 中仍然要查双数组的比例, 按各块已置位的比例估计. 没有过滤器时为 1
+	 * @return
+	 */
+	public double getBloomFalsePositiveRate() {
+		BloomFilter bf = bloomFilter;
+		return bf != null ? bf.falsePositiveRate() : 1;
+	}
+
+	/**
+	 * 布隆过滤器占用的字节数, 没有时为 0
+	 * @return
+	 */
+	public int getBloomFilterSize() {
+		BloomFilter bf = bloomFilter;
+		return bf != null ? bf.intLength() * 4 : 0;
+	}
+
+	/**
+	 * 以 prefix 开头的权重最大的 k 个词, 按权重从大到小排列, 权重相同时按字符顺序.
+	 * 结果的 offset 为 0, len 为词的长度. 需要先 buildCompletion
+	 * @param prefix
+	 * @param k
+	 * @return
+	 */
+	public List<TrieResult> complete(String prefix, int k) {
+		IntArray table = completionTable;
+		if (table == null)
+			throw new IllegalStateException("completion not built, call buildCompletion first");
+		int token = readers.enter();
+		try {
+			return Completion.search(this, table, fold(prefix), k);
+		} finally {
+			readers.exit(token);
+		}
+	}
+
+	/**
+	 * 查找和 query 的编辑距离(插入、删除、替换一个字符各算 1)不超过 maxDistance 的词.
+	 * 沿 base/check 深度优先遍历, 每走一个字符算一行编辑距离, 整行都超过 maxDistance 时不再往下走.
+	 * 第一次调用时建立子节点索引, 需要额外约 3 个 int/单元的内存
+	 * @param query
+	 * @param maxDistance
+	 * @return 按距离从小到大, 距离相同时按字符编码顺序
+	 */
+	public List<FuzzyResult> fuzzySearch(String query, int maxDistance) {
+		if (maxDistance < 0)
+			throw new IllegalArgumentException("maxDistance: " + maxDistance);
+		List<FuzzyResult> result = new ArrayList<FuzzyResult>();
+		if (size == 0)
+			return result;
+		int token = readers.enter();
+		try {
+			CachedChildIndex cached = childIndex;
+			int m = modCount;
+			if (cached == null || cached.modCount != m) {
+				// 构建期间如果又有修改, modCount 不同, 下次还会重新构建
+				cached = new CachedChildIndex(m, ChildIndex.of(this));
+				childIndex = cached;
+			}
+			int n = query.length();
+			int[] row = new int[n + 1];
+			for (int j = 0; j <= n; j++)
+				row[j] = j;
+			new FuzzyWalk(cached.index, fold(query), maxDistance, result).visit(0, 0, row, 0);
+		} finally {
+			readers.exit(token);
+		}
+		result.sort((a, b) -> Integer.compare(a.distance, b.distance));
+		return result;
+	}
+
+	/**
+	 * 一次模糊查找的状态, rows[d] 是走过 d 个字符后的一行编辑距离
+	 */
+	private final class FuzzyWalk {
+		final ChildIndex index;
+		final String query;
+		final int max;
+		final List<FuzzyResult> result;
+		int[][] rows = new int[16][];
+		char[] path = new char[16];
+		/**
+		 * 最近一次 step 算出的行中的最小值
+		 */
+		int stepMin;
+
+		FuzzyWalk(ChildIndex index, String query, int max, List<FuzzyResult> result) {
+			this.index = index;
+			this.query = query;
+			this.max = max;
+			this.result = result;
+		}
+
+		void visit(int s, int depth, int[] row, int rowMin) {
+			int n = query.length();
+			int value = valueAt(s);
+			if (value >= 0 && row[n] <= max)
+				add(depth, null, 0, value, row[n]);
+			int b = base(s);
+			if (rowMin < max) {
+				for (int i = index.start[s]; i < index.start[s + 1]; i++) {
+					int v = index.children[i];
+					child(v, charOf(v - b), depth, row);
+				}
+				return;
+			}
+			// 已经用完了允许的距离, 只能继续精确匹配: 下一个字符只能是 row[j] == max 处的 query[j], 直接查转移
+			int limit = size;
+			for (int j = 0; j < n; j++) {
+				if (row[j] != max || seen(row, j))
+					continue;
+				char c = query.charAt(j);
+				int p = b + codeOf(c);
+				if (p < limit && check(p) == b)
+					child(p, c, depth, row);
+			}
+		}
+
+		/**
+		 * query[j] 是否已经在前面 row 为 max 的位置出现过
+		 */
+		private boolean seen(int[] row, int j) {
+			char c = query.charAt(j);
+			for (int k = 0; k < j; k++) {
+				if (row[k] == max && query.charAt(k) == c)
+					return true;
+			}
+			return false;
+		}
+
+		private void child(int v, char c, int depth, int[] row) {
+			int n = query.length();
+			int[] next = step(depth + 1, row, c);
+			if (next == null)
+				return;
+			if (depth == path.length)
+				path = Arrays.copyOf(path, depth * 2);
+			path[depth] = c;
+			int vb = base(v);
+			if (vb >= 0) {
+				visit(v, depth + 1, next, stepMin);
+				return;
+			}
+			// tail 节点, 沿后缀继续算
+			int t = -vb - 1;
+			int len = tail.get(t);
+			int k = 0;
+			while (k < len && (next = step(depth + 2 + k, next, tail.get(t + 1 + k))) != null)
+				k++;
+			if (k == len && next[n] <= max)
+				add(depth + 1, tail, t, tailValue(t), next[n]);
+		}
+
+		/**
+		 * 在上一行后面加一个字符 c, 算出第 depth 行
+		 * @return 整行都超过 max 时为 null
+		 */
+		private int[] step(int depth, int[] prev, char c) {
+			int n = query.length();
+			if (depth >= rows.length)
+				rows = Arrays.copyOf(rows, depth * 2);
+			int[] row = rows[depth];
+			if (row == null)
+				row = rows[depth] = new int[n + 1];
+			row[0] = prev[0] + 1;
+			int min = row[0];
+			for (int j = 1; j <= n; j++) {
+				int d = prev[j - 1] + (query.charAt(j - 1) == c ? 0 : 1);
+				d = Math.min(d, prev[j] + 1);
+				d = Math.min(d, row[j - 1] + 1);
+				row[j] = d;
+				if (d < min)
+					min = d;
+			}
+			stepMin = min;
+			return min <= max ? row : null;
+		}
+
+		/**
+		 * @param depth path 中有效的字符数
+		 * @param suffix 不为 null 时词的剩余部分在 tail 的 t 处
+		 */
+		private void add(int depth, CharBuffer suffix, int t, int value, int distance) {
+			StringBuilder sb = new StringBuilder(depth + 8);
+			sb.append(path, 0, depth);
+			if (suffix != null) {
+				for (int k = 0, len = suffix.get(t); k < len; k++)
+					sb.append(suffix.get(t + 1 + k));
+			}
+			FuzzyResult r = new FuzzyResult();
+			r.word = sb.toString();
+			r.value = value;
+			r.distance = distance;
+			result.add(r);
+		}
+	}
+
+	/**
+	 * 构建倒序 trie, 之后可以用 {@link SegmentMode#BACKWARD} 和 {@link SegmentMode#BIDIRECTIONAL} 分词.
+	 * 倒序 trie 随 save 一起保存, 打开时不需要重新构建.
+	 */
+	public void buildReverse() {
+		SortedMap<String, Integer> keys = new TreeMap<String, Integer>();
+		if (size > 0)
+			collectKeys(ChildIndex.of(this), 0, new StringBuilder(), keys);
+		DoubleArrayTrie r = new DoubleArrayTrie();
+		if (!keys.isEmpty()) {
+			DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+			if (builder.build(keys) < 0)
+				throw new IllegalStateException("failed to build reverse trie");
+			builder.toTrie(r);
+		}
+		r.setFolding(folding);
+		reverse = r;
+	}
+
+	public boolean hasReverse() {
+		return reverse != null;
+	}
+
+	/**
+	 * 设置附加数据, 值为 v 的词的附加数据是 payloads 中编号为 v 的记录. 随 save 一起保存,
+	 * openMapped 打开时直接读取映射的文件. 查询到的命中用 value 取附加数据
+	 * @param payloads null 表示去掉附加数据
+	 */
+	public void setPayloads(PayloadStore payloads) {
+		this.payloads = payloads;
+	}
+
+	public PayloadStore getPayloads() {
+		return payloads;
+	}
+
+	public boolean hasPayloads() {
+		return payloads != null;
+	}
+
+	/**
+	 * 最长的词的长度, 并行扫描时相邻分段需要重叠这么多字符.
+	 * 由 builder 构建的和保存过的 trie 直接可用, 旧文件第一次调用时遍历一遍计算
+	 * @return
+	 */
+	public int getMaxKeyLength() {
+		int n = maxKeyLength;
+		if (n < 0) {
+			// 查询中也会调用, 不能等 insert 的锁. insert 已经写入时以它为准, 计算期间漏掉的词不会覆盖进去
+			n = computeMaxKeyLength();
+			if (!MAX_KEY_LENGTH.compareAndSet(this, -1, n))
+				n = maxKeyLength;
+		}
+		return n;
+	}
+
+	private int computeMaxKeyLength() {
+		if (size == 0)
+			return 0;
+		ChildIndex index = ChildIndex.of(this);
+		int[] depth = new int[size];
+		int[] queue = new int[index.children.length + 1];
+		int head = 0, tail = 0;
+		queue[tail++] = 0;
+		int max = 0;
+		while (head < tail) {
+			int u = queue[head++];
+			if (valueAt(u) >= 0)
+				max = Math.max(max, depth[u]);
+			for (int i = index.start[u]; i < index.start[u + 1]; i++) {
+				int v = index.children[i];
+				depth[v] = depth[u] + 1;
+				int vb = base(v);
+				if (vb < 0)
+					max = Math.max(max, depth[v] + this.tail.get(-vb - 1));
+				else
+					queue[tail++] = v;
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * 深度优先列出节点 s 下的所有词, 倒序后放入 out
+	 */
+	private void collectKeys(ChildIndex index, int s, StringBuilder key, SortedMap<String, Integer> out) {
+		int value = valueAt(s);
+		if (value >= 0)
+			out.put(reversed(key), value);
+		int b = base(s);
+		for (int i = index.start[s]; i < index.start[s + 1]; i++) {
+			int v = index.children[i];
+			key.append(charOf(v - b));
+			int vb = base(v);
+			if (vb < 0) {
+				// tail 节点, 剩余的后缀都在 tail 中
+				int t = -vb - 1;
+				int len = tail.get(t);
+				for (int k = 0; k < len; k++)
+					key.append(tail.get(t + 1 + k));
+				out.put(reversed(key), tailValue(t));
+				key.setLength(key.length() - len);
+			} else {
+				collectKeys(index, v, key, out);
+			}
+			key.setLength(key.length() - 1);
+		}
+	}
+
+	/**
+	 * 编码对应的字符, codeOf 的反运算
+	 */
+	char charOf(int code) {
+		return alphabet != null ? alphabet[code - 1] : (char) (code - 1);
+	}
+
+	/**
+	 * 逐个 char 倒序, 代理对也拆开, 和查询时逐个 char 向左走一致
+	 */
+	private static String reversed(CharSequence key) {
+		int len = key.length();
+		char[] chars = new char[len];
+		for (int i = 0; i < len; i++)
+			chars[len - 1 - i] = key.charAt(i);
+		return new String(chars);
+	}
+
+	/**
+	 * 插入一个词或者更新它的值, 不需要重新构建整个 trie.
+	 * <p>
+	 * 同一时间只有一个写线程(方法是 synchronized 的), 查询不需要加锁, 可以和修改同时进行,
+	 * 查询看到的是修改前或者修改后的词典. 做法是:
+	 * 新的分支和搬迁后的子节点先写在没有节点能走到的空闲位置上; 然后等待这之前开始的查询结束,
+	 * 之后开始的查询都能看到这些写入; 最后用一次写入把它们挂到父节点上.
+	 * 被替换下来的单元暂不清空, 还在进行的查询照常读到原来的内容, 下一次 insert 等待时确认没有查询再用它们, 才回收.
+	 * 更新已有词的值只写一个单元, 不需要等待.
+	 * <p>
+	 * 等待的是正在进行的查询, 所以不能在查询的回调里修改同一个 trie, 否则一直等待自己.
+	 * 修改后 Aho-Corasick 链接、补全标注和反查索引失效, 需要时重新构建; build 系列方法、load/open 仍然需要和查询互斥
+	 * @param key
+	 * @param value 非负
+	 * @return 原来的值, 原来没有时为 -1
+	 */
+	public synchronized int insert(String key, int value) {
+		if (value < 0)
+			throw new IllegalArgumentException("value must not be negative: " + value);
+		prepareEdit();
+		if (reverse != null)
+			reverse.insert(reversed(key), value);
+
+		int len = key.length();
+		int s = 0;
+		int i = 0;
+		for (; i < len; i++) {
+			int b = base(s);
+			int p = b + codeOf(key.charAt(i));
+			if (p < size && check(p) == b)
+				s = p;
+			else
+				break;
+		}
+		if (i == len) {
+			int b = base(s);
+			if (b < size && check(b) == b) {
+				int old = -base(b) - 1;
+				invalidate();
+				setBase(b, -value - 1);
+				modCount++;
+				return old;
+			}
+		}
+
+		// 先加入过滤器再挂新的节点
+		BloomFilter bf = bloomFilter;
+		if (bf != null)
+			bf.add(BloomFilter.hash(key, folding));
+		// 未知时先算出来, 查询中的计算不会再覆盖
+		maxKeyLength = Math.max(getMaxKeyLength(), key.length());
+		if (codeTable != null) {
+			for (int k = i; k < len; k++)
+				addToAlphabet(key.charAt(k));
+		}
+		invalidate();
+
+		// 在 s 下增加一个子节点, 位置被占用时把 s 的子节点整体复制到新的 base 下
+		int code = i < len ? codeOf(key.charAt(i)) : 0;
+		int oldBase = base(s);
+		int parentBase = oldBase;
+		int first = parentBase + code;
+		boolean moved = !isFree(first, -1);
+		if (moved) {
+			parentBase = relocate(s, code);
+			first = parentBase + code;
+			setCheck(first, parentBase);
+		}
+		ensureSize(first + 1);
+
+		// 剩余的字符依次分配节点, 都在空闲位置上, check 指向新分配的 base, 查询走不到
+		int slot = first;
+		int owner = parentBase;
+		int firstBase = 0;
+		for (; i < len; i++) {
+			// 先写 check 占住当前位置, 后面的 findBase 才不会再分配到它
+			if (slot != first)
+				setCheck(slot, owner);
+			int next = i + 1 < len ? codeOf(key.charAt(i + 1)) : 0;
+			int b = findBase(new int[]{next}, first);
+			usedBase.set(b);
+			ensureSize(b + next + 1);
+			if (slot == first)
+				firstBase = b;
+			else
+				setBase(slot, b);
+			owner = b;
+			slot = b + next;
+		}
+		if (slot == first) {
+			firstBase = -value - 1;
+		} else {
+			setCheck(slot, owner);
+			setBase(slot, -value - 1);
+		}
+		setBase(first, firstBase);
+
+		// 之后开始的查询都能看到上面的写入, 之前开始的已经结束, 以前摘下的单元也没有查询再读
+		readers.synchronize();
+		reclaim();
+		if (moved) {
+			setBase(s, parentBase);
+			retire(oldBase);
+		} else {
+			setCheck(first, parentBase);
+		}
+		modCount++;
+		return -1;
+	}
+
+	/**
+	 * 删除一个词, 同时删除只为这个词存在的节点. 查询可以同时进行, 见 {@link #insert}:
+	 * 只清零最上面一个要删除的节点的 check, 把整条分支摘下来, 下面的单元留到下一次 insert 时回收
+	 * @param key
+	 * @return 原来的值, 原来没有时为 -1
+	 */
+	public synchronized int remove(String key) {
+		prepareEdit();
+		if (reverse != null)
+			reverse.remove(reversed(key));
+
+		int len = key.length();
+		int[] path = new int[len + 1];
+		int s = 0;
+		for (int i = 0; i < len; i++) {
+			int b = base(s);
+			int p = b + codeOf(key.charAt(i));
+			if (p < size && check(p) == b)
+				path[i + 1] = s = p;
+			else
+				return -1;
+		}
+		int b = base(s);
+		if (b >= size || check(b) != b)
+			return -1;
+		int old = -base(b) - 1;
+		invalidate();
+		// 从词尾向上, 节点只剩要删除的这一个子节点时连同节点一起删除
+		int top = b;
+		int i = len;
+		while (i > 0 && onlyChild(base(path[i]), top)) {
+			top = path[i];
+			i--;
+		}
+		int[] slots = new int[len - i + 1];
+		int[] bases = new int[len - i];
+		slots[0] = b;
+		for (int k = 0; k < len - i; k++) {
+			slots[k + 1] = path[len - k];
+			bases[k] = base(path[len - k]);
+		}
+		setCheck(top, 0);
+		pending.set(top);
+		retired.add(new Retired(slots, bases));
+		modCount++;
+		return old;
+	}
+
+	private void prepareEdit() {
+		if (mappedUnits != null)
+			throw new UnsupportedOperationException("mapped trie is read-only");
+		if (tail != null)
+			throw new UnsupportedOperationException("tail compressed trie is read-only");
+		if (size == 0) {
+			units = new int[2048];
+			units[0] = 1;
+			usedBase = null;
+			size = 1;
+		}
+		if (usedBase == null) {
+			BitSet used = new BitSet(size);
+			for (int s = 0; s < size; s++) {
+				if (ChildIndex.isNode(this, s) && base(s) > 0)
+					used.set(base(s));
+			}
+			usedBase = used;
+			freeHint = 1;
+			retired = new ArrayDeque<Retired>();
+			pending = new BitSet();
+		}
+	}
+
+	/**
+	 * 编码表中没有的字符加到最后, 先写编码表再挂新的节点
+	 */
+	private void addToAlphabet(char c) {
+		c = fold(c);
+		if (codeTable[c] != UNMAPPED)
+			return;
+		if (alphabetSize == alphabet.length)
+			alphabet = Arrays.copyOf(alphabet, Math.max(16, alphabetSize * 2));
+		alphabet[alphabetSize++] = c;
+		codeTable[c] = alphabetSize;
+	}
+
+	/**
+	 * 挂上新节点之前丢弃依赖原来结构的索引, 之后开始的查询不会再用到它们
+	 */
+	private void invalidate() {
+		acTable = null;
+		completionTable = null;
+		keyTable = null;
+		childIndex = null;
+	}
+
+	private boolean isFree(int p, int exclude) {
+		return p != 0 && p != exclude && (p >= size || check(p) == 0 && !pending.get(p));
+	}
+
+	/**
+	 * base 为 b 的节点是否只有 p 一个子节点(含结束符)
+	 */
+	private boolean onlyChild(int b, int p) {
+		for (int code = 0, max = maxCode(); code <= max && b + code < size; code++) {
+			if (b + code != p && check(b + code) == b)
+				return false;
+		}
+		return true;
+	}
+
+	private void setBase(int index, int value) {
+		units[index << 1] = value;
+	}
+
+	private void setCheck(int index, int value) {
+		units[(index << 1) + 1] = value;
+	}
+
+	/**
+	 * 清空以前摘下的单元, 释放它们的 base. 调用前已经等待过摘下之前开始的查询
+	 */
+	private void reclaim() {
+		while (!retired.isEmpty()) {
+			Retired r = retired.poll();
+			for (int p : r.slots) {
+				setBase(p, 0);
+				setCheck(p, 0);
+				pending.clear(p);
+				if (p < freeHint)
+					freeHint = p;
+			}
+			for (int b : r.bases) {
+				if (b > 0)
+					usedBase.clear(b);
+			}
+		}
+	}
+
+	/**
+	 * 保存前回收摘下的单元. 文件里留下不可达的单元, 重新打开后它们的 check 可能和新分配的 base 相同
+	 */
+	private void reclaimAll() {
+		if (retired != null && !retired.isEmpty()) {
+			readers.synchronize();
+			reclaim();
+		}
+	}
+
+	/**
+	 * 找一个没有用过的 base, 使 base + codes[i] 都是空闲位置且不是 exclude. codes 升序
+	 */
+	private int findBase(int[] codes, int exclude) {
+		while (freeHint < size && check(freeHint) != 0)
+			freeHint++;
+		for (int q = Math.max(freeHint, codes[0] + 1); ; q++) {
+			if (!isFree(q, exclude))
+				continue;
+			int b = q - codes[0];
+			if (usedBase.get(b))
+				continue;
+			int j = 1;
+			while (j < codes.length && isFree(b + codes[j], exclude))
+				j++;
+			if (j == codes.length)
+				return b;
+		}
+	}
+
+	/**
+	 * 把节点 s 的子节点复制到新的 base 下, 为新编码 extra 留出位置. 父节点的 base 由调用方切换,
+	 * 孙节点的 check 是子节点的 base, 不用改
+	 * @return 新的 base
+	 */
+	private int relocate(int s, int extra) {
+		int b = base(s);
+		int[] codes = new int[16];
+		int n = 0;
+		for (int code = 0, max = maxCode(); code <= max && b + code < size; code++) {
+			if (code == extra || check(b + code) == b)
+				codes = appendCode(codes, n++, code);
+		}
+		if (n == 0 || codes[n - 1] < extra)
+			codes = appendCode(codes, n++, extra);
+		codes = Arrays.copyOf(codes, n);
+
+		int nb = findBase(codes, -1);
+		usedBase.set(nb);
+		ensureSize(nb + codes[n - 1] + 1);
+		for (int code : codes) {
+			if (code != extra) {
+				setCheck(nb + code, nb);
+				setBase(nb + code, base(b + code));
+			}
+		}
+		return nb;
+	}
+
+	/**
+	 * 父节点的 base 由 b 切换到新位置之后, 原来的子节点和 base b 等以后回收
+	 */
+	private void retire(int b) {
+		int[] slots = new int[16];
+		int n = 0;
+		for (int code = 0, max = maxCode(); code <= max && b + code < size; code++) {
+			if (check(b + code) == b)
+				slots = appendCode(slots, n++, b + code);
+		}
+		retired.add(new Retired(Arrays.copyOf(slots, n), new int[]{b}));
+	}
+
+	private static int[] appendCode(int[] codes, int n, int code) {
+		if (n == codes.length)
+			codes = Arrays.copyOf(codes, n * 2);
+		codes[n] = code;
+		return codes;
+	}
+
+	/**
+	 * 保证下标 newSize - 1 可用. 数组扩容时先换数组再增加 size, 按读到的 size 访问不会越界
+	 */
+	private void ensureSize(int newSize) {
+		if (newSize * 2 > units.length) {
+			int capacity = Math.max(newSize, (units.length >> 1) + (units.length >> 2));
+			units = Arrays.copyOf(units, capacity * 2);
+		}
+		if (newSize > size)
+			size = newSize;
+	}
+
+	/**
+	 * 返回的是拷贝
+	 * @return
+	 */
+	public int[] getCheck() {
+		int[] result = new int[size];
+		for (int i = 0; i < result.length; i++)
+			result[i] = check(i);
+		return result;
+	}
+
+	/**
+	 * 返回的是拷贝
+	 * @return
+	 */
+	public int[] getBase() {
+		int[] result = new int[size];
+		for (int i = 0; i < result.length; i++)
+			result[i] = base(i);
+		return result;
+	}
+
+	@Override
+	public void open(String fileName) throws IOException {
+		openFast(fileName);
+	}
+
+	/**
+	 * 读入 save 保存的文件. 单元和附加段整块读入数组, 同时校验 CRC; 也能读取旧格式的文件
+	 * @param fileName
+	 * @throws IOException
+	 */
+	public void openFast(String fileName) throws IOException {
+		try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+			long fileSize = channel.size();
+			ByteBuffer head = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			while (head.hasRemaining()) {
+				if (channel.read(head) < 0)
+					break;
+			}
+			if (head.position() >= 4 && head.getInt(0) == FORMAT_MAGIC) {
+				if (head.hasRemaining())
+					throw new IOException("bad trie file: " + fileName);
+				Header header = Header.decode(head, fileName);
+				if (HEADER_SIZE + header.bodyLength != fileSize)
+					throw new IOException("bad trie file size: " + fileSize + ", " + fileName);
+				readBody(new BlockInput(channel, header.bodyLength, ByteOrder.LITTLE_ENDIAN), header, fileName);
+			} else {
+				channel.position(0);
+				BlockInput in = new BlockInput(channel, fileSize, ByteOrder.BIG_ENDIAN);
+				readLegacy(in, in.readInt());
+			}
+		}
+	}
+
+	/**
+	 * 以只读内存映射方式打开 save 保存的文件, 不拷贝、不解码数据, 查询直接读取映射视图.
+	 * 多个进程打开同一个文件时共享操作系统的页缓存.
+	 * 只检查文件头的校验和, 数据部分的校验和要把整个文件读一遍, 需要时用 open
+	 * @param fileName
+	 * @throws IOException
+	 */
+	public void openMapped(String fileName) throws IOException {
+		try (RandomAccessFile file = new RandomAccessFile(fileName, "r");
+			 FileChannel channel = file.getChannel()) {
+			long fileSize = channel.size();
+			if (fileSize < 4 || fileSize > Integer.MAX_VALUE) {
+				throw new IOException("bad trie file size: " + fileSize + ", " + fileName);
+			}
+			// 映射建立后即使关闭通道也仍然有效
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			Header header = null;
+			int unitCount;
+			if (buffer.getInt(0) == FORMAT_MAGIC) {
+				if (fileSize < HEADER_SIZE)
+					throw new IOException("bad trie file: " + fileName);
+				header = Header.decode(buffer, fileName);
+				if (HEADER_SIZE + header.bodyLength != fileSize)
+					throw new IOException("bad trie file size: " + fileSize + ", " + fileName);
+				unitCount = header.size;
+				buffer.position(HEADER_SIZE);
+			} else {
+				buffer.order(ByteOrder.BIG_ENDIAN);
+				unitCount = buffer.getInt(0);
+				if (unitCount < 0 || 4 + (long) unitCount * UNIT_SIZE > fileSize) {
+					throw new IOException("bad trie file: " + fileName);
+				}
+				buffer.position(4);
+			}
+			ByteBuffer data = buffer.slice().order(buffer.order());
+			IntBuffer view = data.asIntBuffer();
+			IntBuffer unitView = view.duplicate();
+			unitView.limit(unitCount * 2);
+
+			units = null;
+			mappedUnits = unitView;
+			size = unitCount;
+			usedBase = null;
+			clearSections();
+
+			// 旧格式没有附加段
+			if (header != null) {
+				view.position(unitCount * 2);
+				mapSections(data, view);
+				maxKeyLength = header.maxKeyLength;
+			}
+		}
+	}
+
+	/**
+	 * 先写数据部分, 长度和校验和有了之后再回头写文件头
+	 */
+	@Override
+	public synchronized void save(String fileName) throws IOException {
+		reclaimAll();
+		try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			channel.position(HEADER_SIZE);
+			ByteBuffer head = writeBody(new BlockOutput(channel)).encode();
+			long pos = 0;
+			while (head.hasRemaining())
+				pos += channel.write(head, pos);
+		}
+	}
+
+	/**
+	 * 读入 write 或 save 的输出, 也能读取旧格式. 新格式的长度记在文件头里, 旧格式只有单元,
+	 * 两种格式都不会读到流中跟在后面的其他数据
+	 * @param is
+	 * @throws IOException
+	 */
+	public void load(DataInput is) throws IOException {
+		int first = is.readInt();
+		if (first == Integer.reverseBytes(FORMAT_MAGIC)) {
+			ByteBuffer head = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			head.putInt(0, FORMAT_MAGIC);
+			is.readFully(head.array(), 4, HEADER_SIZE - 4);
+			Header header = Header.decode(head, "input");
+			readBody(new BlockInput(is, header.bodyLength, ByteOrder.LITTLE_ENDIAN), header, "input");
+		} else {
+			readLegacy(new BlockInput(is, -1, ByteOrder.BIG_ENDIAN), first);
+		}
+	}
+
+	/**
+	 * 和 save 的格式相同. 流不能回头补写文件头, 所以先完整地算一遍长度和校验和
+	 * @param out
+	 * @throws IOException
+	 */
+	public synchronized void write(DataOutput out) throws IOException {
+		reclaimAll();
+		ByteBuffer head = writeBody(new BlockOutput()).encode();
+		out.write(head.array(), 0, HEADER_SIZE);
+		writeBody(new BlockOutput(out));
+	}
+
+	private Header writeBody(BlockOutput out) throws IOException {
+		Header header = new Header();
+		header.size = size;
+		header.maxKeyLength = getMaxKeyLength();
+		writeUnits(out, header.size);
+		writeSections(out);
+		out.flush();
+		header.bodyLength = out.length();
+		header.checksum = out.checksum();
+		return header;
+	}
+
+	private void writeUnits(BlockOutput out, int n) throws IOException {
+		int[] u = units;
+		if (u != null) {
+			out.writeInts(u, 0, n * 2);
+		} else if (mappedUnits != null) {
+			IntBuffer m = mappedUnits.duplicate();
+			m.clear();
+			m.limit(n * 2);
+			out.writeInts(m);
+		}
+	}
+
+	private void readBody(BlockInput in, Header header, String source) throws IOException {
+		int[] u = new int[header.size * 2];
+		in.readInts(u, 0, u.length);
+		units = u;
+		mappedUnits = null;
+		usedBase = null;
+		size = header.size;
+		readSections(in);
+		// 不认识的尾部数据也计入校验和
+		in.skip(in.remaining());
+		if (in.checksum() != header.checksum) {
+			clear();
+			throw new IOException("trie file checksum mismatch: " + source);
+		}
+		maxKeyLength = header.maxKeyLength;
+	}
+
+	/**
+	 * 旧格式: big-endian, [单元个数] [base check]*, 没有文件头、校验和和附加段. 之后的数据不读
+	 */
+	private void readLegacy(BlockInput in, int n) throws IOException {
+		if (n < 0 || n > Integer.MAX_VALUE / 2)
+			throw new IOException("bad trie file: " + n + " units");
+		int[] u = new int[n * 2];
+		in.readInts(u, 0, u.length);
+		units = u;
+		mappedUnits = null;
+		usedBase = null;
+		size = n;
+		clearSections();
+	}
+
+	private void writeSections(BlockOutput out) throws IOException {
+		DoubleArrayTrie r = reverse;
+		PayloadStore pl = payloads;
+		IntArray ct = completionTable;
+		char[] f = folding;
+		BloomFilter bf = bloomFilter;
+		IntArray kt = keyTable;
+		out.writeInt((acTable != null ? 1 : 0) + (tail != null ? 1 : 0) + (codeTable != null ? 1 : 0)
+				+ (r != null ? 1 : 0) + (pl != null ? 1 : 0) + (ct != null ? 1 : 0) + (f != null ? 1 : 0)
+				+ (bf != null ? 1 : 0) + (kt != null ? 1 : 0));
+		if (acTable != null) {
+			out.writeInt(SECTION_AHO_CORASICK);
+			out.writeInt(acTable.length());
+			acTable.write(out);
+		}
+		if (tail != null) {
+			// [字符个数] 之后按字节序存放字符, 补齐到 4 字节
+			CharBuffer t = tail.duplicate();
+			t.rewind();
+			int chars = t.remaining();
+			out.writeInt(SECTION_TAIL);
+			out.writeInt(1 + (chars + 1) / 2);
+			out.writeInt(chars);
+			out.writeChars(t);
+		}
+		if (codeTable != null) {
+			out.writeInt(SECTION_ALPHABET);
+			out.writeInt(alphabetSize);
+			for (int i = 0; i < alphabetSize; i++)
+				out.writeInt(alphabet[i]);
+		}
+		if (r != null) {
+			// [单元个数] 之后同 base/check
+			int n = r.size;
+			out.writeInt(SECTION_REVERSE);
+			out.writeInt(1 + n * 2);
+			out.writeInt(n);
+			r.writeUnits(out, n);
+		}
+		if (pl != null) {
+			out.writeInt(SECTION_PAYLOAD);
+			out.writeInt(pl.intLength());
+			pl.write(out);
+		}
+		if (ct != null) {
+			out.writeInt(SECTION_COMPLETION);
+			out.writeInt(ct.length());
+			ct.write(out);
+		}
+		if (f != null) {
+			// 只存改变了的字符, 每个 int 高 16 位是原字符, 低 16 位是归一化后的字符
+			int changed = 0;
+			for (int c = 0; c < f.length; c++) {
+				if (f[c] != c)
+					changed++;
+			}
+			out.writeInt(SECTION_FOLDING);
+			out.writeInt(changed);
+			for (int c = 0; c < f.length; c++) {
+				if (f[c] != c)
+					out.writeInt((c << 16) | f[c]);
+			}
+		}
+		if (bf != null) {
+			out.writeInt(SECTION_BLOOM);
+			out.writeInt(bf.intLength());
+			bf.write(out);
+		}
+		if (kt != null) {
+			out.writeInt(SECTION_KEY_INDEX);
+			out.writeInt(kt.length());
+			kt.write(out);
+		}
+	}
+
+	private static char[] foldingTable(int[] pairs, int n) {
+		char[] f = new CharFolding().table();
+		for (int i = 0; i < n; i++)
+			f[pairs[i] >>> 16] = (char) pairs[i];
+		return f;
+	}
+
+	/**
+	 * 去掉附加段中的数据, 读入新的单元之后调用
+	 */
+	private void clearSections() {
+		acTable = null;
+		completionTable = null;
+		keyTable = null;
+		bloomFilter = null;
+		childIndex = null;
+		startChars = null;
+		reverse = null;
+		payloads = null;
+		maxKeyLength = -1;
+		tail = null;
+		setAlphabet(null, 0);
+		folding = null;
+	}
+
+	/**
+	 * 新格式的附加段, 见 SECTION_AHO_CORASICK 等
+	 */
+	private void readSections(BlockInput in) throws IOException {
+		clearSections();
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			int tag = in.readInt();
+			int length = in.readInt();
+			if (length < 0) {
+				throw new IOException("bad trie section: " + tag);
+			}
+			if (tag == SECTION_AHO_CORASICK) {
+				acTable = IntArray.read(in, length);
+			} else if (tag == SECTION_TAIL) {
+				int chars = in.readInt();
+				if (chars < 0 || chars > (length - 1) * 2L) {
+					throw new IOException("bad trie section: " + tag);
+				}
+				char[] t = new char[chars];
+				in.readChars(t, chars);
+				tail = CharBuffer.wrap(t);
+			} else if (tag == SECTION_ALPHABET) {
+				char[] a = new char[length];
+				for (int k = 0; k < length; k++)
+					a[k] = (char) in.readInt();
+				setAlphabet(a, length);
+			} else if (tag == SECTION_REVERSE) {
+				int n = in.readInt();
+				if (n < 0 || 1 + (long) n * 2 != length) {
+					throw new IOException("bad trie section: " + tag);
+				}
+				int[] u = new int[n * 2];
+				in.readInts(u, 0, u.length);
+				DoubleArrayTrie r = new DoubleArrayTrie();
+				r.units = u;
+				r.size = n;
+				reverse = r;
+			} else if (tag == SECTION_PAYLOAD) {
+				payloads = PayloadStore.read(in, length);
+			} else if (tag == SECTION_COMPLETION) {
+				completionTable = IntArray.read(in, length);
+			} else if (tag == SECTION_FOLDING) {
+				int[] pairs = new int[length];
+				in.readInts(pairs, 0, length);
+				folding = foldingTable(pairs, length);
+			} else if (tag == SECTION_BLOOM) {
+				bloomFilter = BloomFilter.read(in, length);
+			} else if (tag == SECTION_KEY_INDEX) {
+				keyTable = IntArray.read(in, length);
+			} else {
+				in.skip(length * 4L);
+			}
+		}
+		// 倒序 trie 的段里没有映射表, 和 buildReverse 一样共用正序的
+		if (reverse != null && folding != null)
+			reverse.setFolding(folding);
+	}
+
+	/**
+	 * 新格式的文件头
+	 */
+	private static final class Header {
+		int size;
+		int maxKeyLength;
+		long bodyLength;
+		int checksum;
+
+		ByteBuffer encode() {
+			ByteBuffer b = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			b.putInt(FORMAT_MAGIC).putInt(FORMAT_VERSION).putInt(size).putInt(maxKeyLength);
+			b.putLong(bodyLength).putInt(checksum);
+			b.putInt(crc(b, HEADER_SIZE - 4));
+			b.flip();
+			return b;
+		}
+
+		/**
+		 * @param b little-endian, 文件头从下标 0 开始
+		 */
+		static Header decode(ByteBuffer b, String source) throws IOException {
+			if (b.getInt(HEADER_SIZE - 4) != crc(b, HEADER_SIZE - 4))
+				throw new IOException("trie file header checksum mismatch: " + source);
+			int version = b.getInt(4);
+			if (version != FORMAT_VERSION)
+				throw new IOException("unsupported trie file version " + version + ": " + source);
+			Header h = new Header();
+			h.size = b.getInt(8);
+			h.maxKeyLength = b.getInt(12);
+			h.bodyLength = b.getLong(16);
+			h.checksum = b.getInt(24);
+			if (h.size < 0 || h.size > Integer.MAX_VALUE / 2 || h.bodyLength < (long) h.size * UNIT_SIZE)
+				throw new IOException("bad trie file: " + source);
+			return h;
+		}
+
+		private static int crc(ByteBuffer b, int length) {
+			ByteBuffer d = b.duplicate();
+			d.clear();
+			d.limit(length);
+			CRC32 crc = new CRC32();
+			crc.update(d);
+			return (int) crc.getValue();
+		}
+	}
+
+	/**
+	 * @param bytes 与 view 起点相同的字节视图, 用来把 tail 映射成字符视图
+	 * @param view
+	 * @throws IOException
+	 */
+	private void mapSections(ByteBuffer bytes, IntBuffer view) throws IOException {
+		if (view.remaining() == 0) {
+			return;
+		}
+		int count = view.get();
+		for (int i = 0; i < count; i++) {
+			int tag = view.get();
+			int length = view.get();
+			if (length < 0 || length > view.remaining()) {
+				throw new IOException("bad trie section: " + tag);
+			}
+			if (tag == SECTION_AHO_CORASICK) {
+				acTable = IntArray.view(view, length);
+			} else if (tag == SECTION_TAIL) {
+				int chars = view.get(view.position());
+				if (chars < 0 || chars > (length - 1) * 2) {
+					throw new IOException("bad trie section: " + tag);
+				}
+				ByteBuffer b = bytes.duplicate();
+				b.position((view.position() + 1) * 4);
+				b.limit(b.position() + chars * 2);
+				tail = b.slice().order(bytes.order()).asCharBuffer();
+			} else if (tag == SECTION_ALPHABET) {
+				// 编码表很小, 复制到堆上
+				char[] a = new char[length];
+				for (int k = 0; k < length; k++)
+					a[k] = (char) view.get(view.position() + k);
+				setAlphabet(a, length);
+			} else if (tag == SECTION_REVERSE) {
+				int n = view.get(view.position());
+				if (n < 0 || 1 + (long) n * 2 != length) {
+					throw new IOException("bad trie section: " + tag);
+				}
+				IntBuffer u = view.duplicate();
+				u.position(view.position() + 1);
+				u.limit(u.position() + n * 2);
+				DoubleArrayTrie r = new DoubleArrayTrie();
+				r.mappedUnits = u.slice();
+				r.size = n;
+				reverse = r;
+			} else if (tag == SECTION_PAYLOAD) {
+				payloads = PayloadStore.view(bytes, view, length);
+			} else if (tag == SECTION_COMPLETION) {
+				completionTable = IntArray.view(view, length);
+			} else if (tag == SECTION_FOLDING) {
+				// 映射表很小, 展开到堆上
+				int[] pairs = new int[length];
+				for (int k = 0; k < length; k++)
+					pairs[k] = view.get(view.position() + k);
+				folding = foldingTable(pairs, length);
+			} else if (tag == SECTION_BLOOM) {
+				bloomFilter = BloomFilter.view(view, length);
+			} else if (tag == SECTION_KEY_INDEX) {
+				keyTable = IntArray.view(view, length);
+			}
+			view.position(view.position() + length);
+		}
+		if (reverse != null && folding != null)
+			reverse.setFolding(folding);
+	}
+
+	@Override
+	public int exactMatchSearch(String key) {
+		BloomFilter bf = bloomFilter;
+		if (bf != null && !bf.mightContain(BloomFilter.hash(key, folding)))
+			return -1;
+		int token = readers.enter();
+		try {
+			return search(key.toCharArray(), 0, key.length(), 0);
+		} finally {
+			readers.exit(token);
+		}
+	}
+
+	@Override
+	public int exactMatchSearch(char[] code, int pos, int end, int nodePos) {
+		if (end <= 0)
+			end = code.length;
+		if (nodePos <= 0) {
+			// 从根开始查整个 key 时先查布隆过滤器
+			nodePos = 0;
+			BloomFilter bf = bloomFilter;
+			if (bf != null && !bf.mightContain(BloomFilter.hash(code, pos, end, folding)))
+				return -1;
+		}
+		int token = readers.enter();
+		try {
+			return search(code, pos, end, nodePos);
+		} finally {
+			readers.exit(token);
+		}
+	}
+
+	private int search(char[] code, int pos, int end, int nodePos) {
+		int limit = size;
+		if(limit == 0) {
+			return -1;
+		}
+
+		int result = -1;
+		int b = base(nodePos);
+        int p;
+
+        for (int i = pos; i < end; i++)
+        {
+            p = b + codeOf(code[i]);
+            if (p < limit && b == check(p))
+                b = base(p);
+            else
+                return result;
+            if (b < 0)
+            {
+                // 后缀在 tail 中, 剩余部分必须和后缀完全相同
+                int t = -b - 1;
+                return matchTail(t, code, i + 1, end) == end - i - 1 ? tailValue(t) : -1;
+            }
+        }
+
+        p = b;
+        int n = base(p);
+        if (b == check(p) && n < 0)
+        {
+            result = -n - 1;
+        }
+        return result;
+	}
+
+	@Override
+	public int get(char[] key, int start, int end) {
+		return exactMatchSearch(key, start, end, 0);
+	}
+
+	@Override
+	public int get(String key) {
+		return exactMatchSearch(key);
+	}
+
+	/**
+	 * 批量精确查询, 结果同逐个调用 get
+	 * @param keys
+	 * @param out out[i] 为 keys[i] 的值, 不存在为 -1
+	 * @return 找到的 key 的个数
+	 */
+	public int get(CharSequence[] keys, int[] out) {
+		return get(keys, 0, keys.length, out);
+	}
+
+	/**
+	 * 批量精确查询 keys[from, to), 结果写入 out 的相同位置.
+	 * 每 BATCH_LANES 个 key 一组, 按字符位置同步推进: 每轮组内每个 key 走一步, 它们的 base/check 访问互不依赖,
+	 * 一个 key 等待内存时 CPU 可以继续处理组内其它 key. 词典大于缓存时比逐个查询快
+	 * @return 找到的 key 的个数
+	 */
+	public int get(CharSequence[] keys, int from, int to, int[] out) {
+		int token = readers.enter();
+		try {
+			return batchSearch(keys, from, to, out);
+		} finally {
+			readers.exit(token);
+		}
+	}
+
+	private int batchSearch(CharSequence[] keys, int from, int to, int[] out) {
+		int limit = size;
+		if (limit == 0) {
+			Arrays.fill(out, from, to, -1);
+			return 0;
+		}
+		int root = base(0);
+		BloomFilter bf = bloomFilter;
+		// 组内每个 key 当前的 base, 已经得出结果的为 -1
+		int[] node = new int[BATCH_LANES];
+		int found = 0;
+		for (int g = from; g < to; g += BATCH_LANES) {
+			int n = Math.min(BATCH_LANES, to - g);
+			int max = 0;
+			for (int j = 0; j < n; j++) {
+				CharSequence key = keys[g + j];
+				if (bf != null && !bf.mightContain(BloomFilter.hash(key, folding))) {
+					out[g + j] = -1;
+					node[j] = -1;
+					continue;
+				}
+				node[j] = root;
+				max = Math.max(max, key.length());
+			}
+			for (int i = 0; i < max; i++) {
+				for (int j = 0; j < n; j++) {
+					int b = node[j];
+					CharSequence key = keys[g + j];
+					if (b < 0 || i >= key.length())
+						continue;
+					int p = b + codeOf(key.charAt(i));
+					if (p >= limit || b != check(p)) {
+						out[g + j] = -1;
+						node[j] = -1;
+					} else if ((b = base(p)) >= 0) {
+						node[j] = b;
+					} else {
+						// 后缀在 tail 中, 剩余部分必须和后缀完全相同
+						int t = -b - 1;
+						int value = matchTail(t, key, i + 1) ? tailValue(t) : -1;
+						out[g + j] = value;
+						if (value >= 0)
+							found++;
+						node[j] = -1;
+					}
+				}
+			}
+			for (int j = 0; j < n; j++) {
+				int b = node[j];
+				if (b < 0)
+					continue;
+				int v = base(b);
+				int value = b == check(b) && v < 0 ? -v - 1 : -1;
+				out[g + j] = value;
+				if (value >= 0)
+					found++;
+			}
+		}
+		return found;
+	}
+
+	@Override
+	public List<TrieResult> commonPrefixSearch(String key) {
+		return commonPrefixSearch(key.toCharArray(), 0, key.length(), 0);
+	}
+
+	@Override
+	public List<TrieResult> commonPrefixSearch(char[] code, int pos, int end,
+			int nodePos) {
+		List<TrieResult> result = new ArrayList<TrieResult>();
+		commonPrefixSearch(code, pos, end, nodePos, (off, len, value) -> {
+			TrieResult r = new TrieResult();
+			r.word = new String(code, off, len);
+			r.offset = off;
+			r.len = len;
+			r.value = value;
+			result.add(r);
+			return true;
+		});
+		return result;
+	}
+
+	@Override
+	public int commonPrefixSearch(char[] code, int pos, int end, HitCallback callback) {
+		return commonPrefixSearch(code, pos, end, 0, callback);
+	}
+
+	private int commonPrefixSearch(char[] code, int pos, int end, int nodePos, HitCallback callback) {
+		int token = readers.enter();
+		try {
+			int limit = size;
+			if(limit == 0) {
+				return 0;
+			}
+			int r = prefixHits(code, pos, end, base(nodePos), limit, callback);
+			return r < 0 ? ~r : r;
+		} finally {
+			readers.exit(token);
+		}
+	}
+
+	/**
+	 * 从 pos 开始, 在 base 为 b 的节点下匹配 code 的前缀, 逐个回调
+	 * @return 回调的次数; 回调返回 false 时停止, 返回 ~回调的次数
+	 */
+	private int prefixHits(char[] code, int pos, int end, int b, int limit, HitCallback callback) {
+		int count = 0;
+		for (int i = pos; i < end; i++) {
+			int p = b + codeOf(code[i]);
+			if (p < limit && b == check(p)) {
+				b = base(p);
+				if (b < 0) {
+					int t = -b - 1;
+					int len = matchTail(t, code, i + 1, end);
+					if (len >= 0) {
+						count++;
+						if (!callback.hit(pos, i + 1 + len - pos, tailValue(t)))
+							return ~count;
+					}
+					break;
+				}
+				int n = base(b);
+				if(n < 0 && check(b) == b) {
+					count++;
+					if (!callback.hit(pos, i + 1 - pos, -n - 1))
+						return ~count;
+				}
+			} else {
+				break;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 依次以 [from, to) 中能作为词首的每个位置匹配, 词可以超出 to, 不超出 end
+	 * @return 回调的次数; 回调返回 false 时停止, 返回 ~回调的次数
+	 */
+	private int scanStarts(char[] code, int from, int to, int end, HitCallback callback) {
+		int limit = size;
+		if (limit == 0) {
+			return 0;
+		}
+		int count = 0;
+		int startBase = base(0);
+		long[] starts = startChars();
+		for (int i = from; i < to; i += 64) {
+			for (long mask = startMask(code, i, to, starts); mask != 0; mask &= mask - 1) {
+				int r = prefixHits(code, i + Long.numberOfTrailingZeros(mask), end, startBase, limit, callback);
+				if (r < 0)
+					return ~(count + ~r);
+				count += r;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 按 Aho-Corasick 链接从 pos 扫描到 to, 只回调在 emitFrom 之后结束的词
+	 * @return 回调的次数; 回调返回 false 时停止, 返回 ~回调的次数
+	 */
+	private int scanAhoCorasick(char[] code, int pos, int to, int emitFrom, IntArray table, HitCallback callback) {
+		int count = 0;
+		// insert/remove 之后链接失效, 这里只保证不会越界
+		int limit = Math.min(size, table.length() / AhoCorasick.STRIDE);
+		if (limit == 0) {
+			return 0;
+		}
+		long[] starts = startChars();
+		int s = 0;
+		for (int i = pos; i < to; i++) {
+			if (s == 0) {
+				// 在根节点时, 不能作为词首的字符不会离开根节点, 也没有输出
+				for (; i < to; i++) {
+					char c = code[i];
+					if ((starts[c >>> 6] & (1L << c)) != 0)
+						break;
+				}
+				if (i == to)
+					break;
+			}
+			int c = codeOf(code[i]);
+			while (true) {
+				int b = base(s);
+				int p = b + c;
+				if (p < limit && b == check(p)) {
+					s = p;
+					break;
+				}
+				if (s == 0)
+					break;
+				s = table.get(s * AhoCorasick.STRIDE + AhoCorasick.FAIL);
+			}
+
+			if (i < emitFrom)
+				continue;
+			int t = table.get(s * AhoCorasick.STRIDE + AhoCorasick.OUTPUT);
+			while (t != 0) {
+				int len = table.get(t * AhoCorasick.STRIDE + AhoCorasick.DEPTH);
+				count++;
+				if (!callback.hit(i + 1 - len, len, valueAt(t)))
+					return ~count;
+				t = table.get(table.get(t * AhoCorasick.STRIDE + AhoCorasick.FAIL) * AhoCorasick.STRIDE + AhoCorasick.OUTPUT);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 从 pos 开始的最长前缀
+	 * @return 高 32 位为长度, 低 32 位为值; 没有时为 -1
+	 */
+	private long longestPrefix(char[] code, int pos, int end, int nodePos) {
+		int limit = size;
+		if(limit == 0) {
+			return -1;
+		}
+
+		long result = -1;
+		int b = base(nodePos);
+		for (int i = pos; i < end; i++) {
+			int p = b + codeOf(code[i]);
+			if (p < limit && b == check(p)) {
+				b = base(p);
+				if (b < 0) {
+					int t = -b - 1;
+					int len = matchTail(t, code, i + 1, end);
+					if (len >= 0) {
+						result = ((long) (i + 1 + len - pos) << 32) | tailValue(t);
+					}
+					break;
+				}
+				int n = base(b);
+				if(n < 0 && check(b) == b) {
+					result = ((long) (i + 1 - pos) << 32) | (-n - 1);
+				}
+			} else {
+				break;
+			}
+		}
+		return result;
+	}
+
+	// debug
+	public void dump() {
+		for (int i = 0; i < size; i++) {
+			System.err.println("i: " + i + " [" + base(i) + ", " + check(i)
+					+ "]");
+		}
+	}
+	
+	@Override
+	public TrieResult matchOne(String text) {
+		return matchOne(text.toCharArray(), 0, text.length());
+	}
+	
+	@Override
+	public List<TrieResult> matchAll(String text) {
+		return matchAll(text.toCharArray(), 0, text.length());
+	}
+	
+	@Override
+	public TrieResult matchOne(char[] code, int offset, int end) {
+		int token = readers.enter();
+		try {
+			long[] starts = startChars();
+			for (int i = offset; i < end; i += 64) {
+				for (long mask = startMask(code, i, end, starts); mask != 0; mask &= mask - 1) {
+					int p = i + Long.numberOfTrailingZeros(mask);
+					long r = longestPrefix(code, p, end, 0);
+					if (r >= 0)
+						return toResult(code, p, r);
+				}
+			}
+			return null;
+		} finally {
+			readers.exit(token);
+		}
+	}
+
+	/**
+	 * 第一个有命中的位置上的最长词
+	 */
+	@Override
+	public boolean matchOne(char[] code, int offset, int end, HitCallback callback) {
+		int token = readers.enter();
+		try {
+			long[] starts = startChars();
+			for (int i = offset; i < end; i += 64) {
+				for (long mask = startMask(code, i, end, starts); mask != 0; mask &= mask - 1) {
+					int p = i + Long.numberOfTrailingZeros(mask);
+					long r = longestPrefix(code, p, end, 0);
+					if (r >= 0) {
+						callback.hit(p, (int) (r >>> 32), (int) r);
+						return true;
+					}
+				}
+			}
+			return false;
+		} finally {
+			readers.exit(token);
+		}
+	}
+
+	/**
+	 * [i, min(i + 64, end)) 中能作为词首的位置, 第 k 位对应 i + k.
+	 * 逐字符查位图后拼成掩码, 循环里没有分支, 词首和其它字符交错时不会因为分支预测失败而停顿;
+	 * 调用方再按置位的顺序逐个匹配
+	 */
+	static long startMask(char[] code, int i, int end, long[] starts) {
+		int n = Math.min(64, end - i);
+		long mask = 0;
+		for (int k = 0; k < n; k++) {
+			char c = code[i + k];
+			mask |= (starts[c >>> 6] >>> c & 1L) << k;
+		}
+		return mask;
+	}
+
+	private static TrieResult toResult(char[] code, int offset, long r) {
+		TrieResult result = new TrieResult();
+		result.offset = offset;
+		result.len = (int) (r >>> 32);
+		result.value = (int) r;
+		result.word = new String(code, offset, result.len);
+		return result;
+	}
+
+	//add by haojing
+	public TrieResult searchBest(char[] code, int offset, int end)
+	{	
+		return commonPrefixBestSearch(code, offset,  end, 0);
+	}
+	
+	public TrieResult commonPrefixBestSearch(char[] code, int pos, int end,
+			int nodePos)
+	{
+		int token = readers.enter();
+		try {
+			long r = longestPrefix(code, pos, end, nodePos);
+			return r >= 0 ? toResult(code, pos, r) : null;
+		} finally {
+			readers.exit(token);
+		}
+	}
+	
+	/**
+	 * 构建了 Aho-Corasick 链接时, 结果按词尾位置排序, 否则按词首位置排序
+	 */
+	@Override
+	public List<TrieResult> matchAll(char[] code, int offset, int end) {
+		List<TrieResult> r = new ArrayList<TrieResult>();
+		matchAll(code, offset, end, (off, len, value) -> {
+			TrieResult item = new TrieResult();
+			item.word = new String(code, off, len);
+			item.offset = off;
+			item.len = len;
+			item.value = value;
+			r.add(item);
+			return true;
+		});
+		return r;
+	}
+
+	/**
+	 * 结果顺序同 matchAll(char[], int, int). 直接在 code 上扫描, 不创建匹配器,
+	 * 回调本身不分配对象时 (例如 HitBuffer 容量足够) 整个调用不分配对象
+	 */
+	@Override
+	public int matchAll(char[] code, int offset, int end, HitCallback callback) {
+		int token = readers.enter();
+		try {
+			IntArray table = acTable;
+			int r = table != null ? scanAhoCorasick(code, offset, end, offset, table, callback)
+					: scanStarts(code, offset, end, end, callback);
+			return r < 0 ? ~r : r;
+		} finally {
+			readers.exit(token);
+		}
+	}
+
+	/**
+	 * 把文本分成多段并行扫描, 结果和 matchAll(char[], int, int, HitCallback) 相同, 顺序也相同.
+	 * 每段的结果先存下来, 调用线程按段的顺序依次回调, 回调返回 false 时取消剩余的段
+	 * @param code
+	 * @param offset
+	 * @param end
+	 * @param executor 执行各段扫描的线程池, 由调用者负责关闭
+	 * @param chunkSize 每段的字符数
+	 * @param callback
+	 * @return 回调的次数
+	 */
+	public int matchAllParallel(char[] code, int offset, int end, ExecutorService executor, int chunkSize,
+								HitCallback callback) {
+		int chunks = chunkCount(offset, end, chunkSize);
+		// 需要时先算好, 不要每段各算一遍
+		if (acTable != null)
+			getMaxKeyLength();
+		List<Future<Integer>> futures = new ArrayList<Future<Integer>>(chunks);
+		List<HitBuffer> buffers = new ArrayList<HitBuffer>(chunks);
+		for (int k = 0; k < chunks; k++) {
+			HitBuffer hits = new HitBuffer();
+			buffers.add(hits);
+			futures.add(executor.submit(chunkTask(code, offset, end, chunkSize, k, hits)));
+		}
+		int count = 0;
+		try {
+			for (int k = 0; k < chunks; k++) {
+				await(futures.get(k));
+				HitBuffer hits = buffers.get(k);
+				buffers.set(k, null);
+				for (int i = 0; i < hits.size(); i++) {
+					count++;
+					if (!callback.hit(hits.offset(i), hits.length(i), hits.value(i)))
+						return count;
+				}
+			}
+		} finally {
+			for (Future<Integer> future : futures)
+				future.cancel(false);
+		}
+		return count;
+	}
+
+	/**
+	 * 把文本分成多段并行扫描, 第 k 段的结果在工作线程中交给 sinks.apply(k) 返回的回调,
+	 * 段内的顺序同 matchAll, 段与段之间没有顺序. 回调返回 false 只停止所在的段
+	 * @param code
+	 * @param offset
+	 * @param end
+	 * @param executor 执行各段扫描的线程池, 由调用者负责关闭
+	 * @param chunkSize 每段的字符数
+	 * @param sinks 按段的序号创建回调
+	 * @return 回调的次数
+	 */
+	public int matchAllParallel(char[] code, int offset, int end, ExecutorService executor, int chunkSize,
+								IntFunction<HitCallback> sinks) {
+		int chunks = chunkCount(offset, end, chunkSize);
+		// 需要时先算好, 不要每段各算一遍
+		if (acTable != null)
+			getMaxKeyLength();
+		List<Future<Integer>> futures = new ArrayList<Future<Integer>>(chunks);
+		for (int k = 0; k < chunks; k++) {
+			int chunk = k;
+			futures.add(executor.submit(() -> chunkTask(code, offset, end, chunkSize, chunk, sinks.apply(chunk)).call()));
+		}
+		int count = 0;
+		try {
+			for (Future<Integer> future : futures)
+				count += await(future);
+		} finally {
+			for (Future<Integer> future : futures)
+				future.cancel(false);
+		}
+		return count;
+	}
+
+	private static int chunkCount(int offset, int end, int chunkSize) {
+		if (chunkSize <= 0)
+			throw new IllegalArgumentException("chunkSize: " + chunkSize);
+		return end <= offset ? 0 : (int) ((end - offset + (long) chunkSize - 1) / chunkSize);
+	}
+
+	/**
+	 * 第 k 段负责 [from, to) 中的位置: 没有 Aho-Corasick 链接时是词首位置, 有时是词尾位置.
+	 * 后一种情况从 from 前面 getMaxKeyLength() - 1 个字符开始扫描, 重叠部分结束的词属于前一段, 不回调
+	 */
+	private Callable<Integer> chunkTask(char[] code, int offset, int end, int chunkSize, int k, HitCallback callback) {
+		int from = offset + k * chunkSize;
+		int to = (int) Math.min(end, (long) from + chunkSize);
+		return () -> new TextInnerMatcher(code, null, offset, end, callback).matchRange(from, to);
+	}
+
+	private static int await(Future<Integer> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new IllegalStateException(cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public int segment(String text, SegmentMode mode, HitCallback callback) {
+		return segment(text.toCharArray(), 0, text.length(), mode, callback);
+	}
+
+	/**
+	 * 最大匹配分词, 按从左到右的顺序输出互不重叠、覆盖整个范围的词.
+	 * 词典中没有的字单独成词, value 为 -1.
+	 * FORWARD 不分配对象; 其它方式先把结果存下来再输出, 需要先 buildReverse
+	 * @param text
+	 * @param offset
+	 * @param end
+	 * @param mode
+	 * @param callback 返回 false 时停止
+	 * @return 输出的词数
+	 */
+	public int segment(char[] text, int offset, int end, SegmentMode mode, HitCallback callback) {
+		if (mode == SegmentMode.FORWARD)
+			return forwardSegment(text, offset, end, callback);
+		DoubleArrayTrie r = reverse;
+		if (r == null)
+			throw new IllegalStateException("reverse trie not built, call buildReverse first");
+		HitBuffer backward = new HitBuffer();
+		int token = r.readers.enter();
+		try {
+			r.backwardSegment(text, offset, end, backward);
+		} finally {
+			r.readers.exit(token);
+		}
+		if (mode == SegmentMode.BIDIRECTIONAL) {
+			HitBuffer forward = new HitBuffer();
+			forwardSegment(text, offset, end, forward);
+			if (forward.size() < backward.size()
+					|| forward.size() == backward.size() && singles(forward) < singles(backward))
+				return emit(forward, 0, 1, callback);
+		}
+		return emit(backward, backward.size() - 1, -1, callback);
+	}
+
+	private int forwardSegment(char[] text, int offset, int end, HitCallback callback) {
+		int token = readers.enter();
+		try {
+			return forwardHits(text, offset, end, callback);
+		} finally {
+			readers.exit(token);
+		}
+	}
+
+	private int forwardHits(char[] text, int offset, int end, HitCallback callback) {
+		int count = 0;
+		for (int i = offset; i < end; ) {
+			long r = longestPrefix(text, i, end, 0);
+			int len = (int) (r >>> 32);
+			if (r < 0 || len == 0) {
+				len = 1;
+				r = -1;
+			}
+			count++;
+			if (!callback.hit(i, len, (int) r))
+				break;
+			i += len;
+		}
+		return count;
+	}
+
+	/**
+	 * 在倒序 trie 上从右向左切分, 结果按从右到左的顺序放入 out
+	 */
+	private void backwardSegment(char[] text, int offset, int end, HitBuffer out) {
+		for (int i = end; i > offset; ) {
+			long r = longestSuffix(text, offset, i);
+			int len = (int) (r >>> 32);
+			if (r < 0) {
+				len = 1;
+				r = -1;
+			}
+			out.hit(i - len, len, (int) r);
+			i -= len;
+		}
+	}
+
+	/**
+	 * 以 end 结束的最长词, 从 end - 1 开始向左走. 只用于倒序 trie, 没有 tail
+	 * @return 高 32 位为长度, 低 32 位为值; 没有时为 -1
+	 */
+	private long longestSuffix(char[] code, int begin, int end) {
+		int limit = size;
+		if (limit == 0) {
+			return -1;
+		}
+
+		long result = -1;
+		int b = base(0);
+		for (int i = end - 1; i >= begin; i--) {
+			int p = b + codeOf(code[i]);
+			if (p < limit && b == check(p)) {
+				b = base(p);
+				int n = base(b);
+				if (n < 0 && check(b) == b) {
+					result = ((long) (end - i) << 32) | (-n - 1);
+				}
+			} else {
+				break;
+			}
+		}
+		return result;
+	}
+
+	private static int singles(HitBuffer hits) {
+		int n = 0;
+		for (int i = 0; i < hits.size(); i++) {
+			if (hits.length(i) == 1)
+				n++;
+		}
+		return n;
+	}
+
+	private static int emit(HitBuffer hits, int from, int step, HitCallback callback) {
+		int count = 0;
+		for (int i = from; i >= 0 && i < hits.size(); i += step) {
+			count++;
+			if (!callback.hit(hits.offset(i), hits.length(i), hits.value(i)))
+				break;
+		}
+		return count;
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		write(out);
+	}
+
+	@Override
+    public void readExternal(ObjectInput in) throws IOException {
+		load(in);
+	}
+
+	@Override
+	public SubMatcher newMatcher(char[] key, int pos, int end, HitCallback callback) {
+		return new TextInnerMatcher(key, null, pos, end, callback);
+	}
+
+	@Override
+	public SubMatcher newMatcher(String key, int pos, int end, HitCallback callback) {
+		return new TextInnerMatcher(null, key, pos, end, callback);
+	}
+
+	/**
+	 * 流式匹配器, 命中顺序同 matchAll: 没有 Aho-Corasick 链接时按词首位置, 后面的字符到了才能确定,
+	 * 有链接时按词尾位置, 读到词尾就回调. 回调返回 false 后不再匹配, 直到 reset
+	 * @param callback
+	 * @return
+	 */
+	public StreamMatcher newStreamMatcher(StreamHitCallback callback) {
+		return new TrieStreamMatcher(callback);
+	}
+
+	/**
+	 * 缓存最近输入的一段文本, 丢弃的部分之前保留 getMaxKeyLength() - 1 个字符:
+	 * 没有链接时这些位置还可能是词首, 有链接时用来恢复状态机的状态
+	 */
+	private final class TrieStreamMatcher implements StreamMatcher {
+		private final StreamHitCallback callback;
+		private final TextInnerMatcher matcher;
+		private char[] buffer = new char[8192];
+		private int filled;
+		/**
+		 * buffer[0] 在流中的位置
+		 */
+		private long bufferStart;
+		/**
+		 * 没有链接时是下一个要匹配的词首, 有链接时是下一个要回调的词尾所在的字符
+		 */
+		private int next;
+		private boolean stopped;
+
+		TrieStreamMatcher(StreamHitCallback callback) {
+			this.callback = callback;
+			this.matcher = new TextInnerMatcher(buffer, null, 0, 0,
+					(off, len, value) -> this.callback.hit(bufferStart + off, len, value));
+		}
+
+		@Override
+		public int feed(CharBuffer chunk) {
+			int count = 0;
+			while (!stopped && chunk.hasRemaining()) {
+				int keep = Math.max(getMaxKeyLength() - 1, 0);
+				if (filled == buffer.length) {
+					int drop = Math.min(next, filled - keep);
+					if (drop <= 0) {
+						// insert 之后最长的词变长了
+						buffer = Arrays.copyOf(buffer, buffer.length * 2);
+					} else {
+						System.arraycopy(buffer, drop, buffer, 0, filled - drop);
+						bufferStart += drop;
+						filled -= drop;
+						next -= drop;
+					}
+				}
+				int n = Math.min(chunk.remaining(), buffer.length - filled);
+				chunk.get(buffer, filled, n);
+				filled += n;
+				count += scan(keep, false);
+			}
+			return count;
+		}
+
+		@Override
+		public int finish() {
+			if (stopped)
+				return 0;
+			int count = scan(Math.max(getMaxKeyLength() - 1, 0), true);
+			stopped = true;
+			return count;
+		}
+
+		private int scan(int keep, boolean last) {
+			int token = readers.enter();
+			try {
+				return scanBuffer(keep, last);
+			} finally {
+				readers.exit(token);
+			}
+		}
+
+		private int scanBuffer(int keep, boolean last) {
+			int limit = size;
+			if (limit == 0) {
+				next = filled;
+				return 0;
+			}
+			matcher.reset(buffer, 0, filled);
+			int count;
+			IntArray table = acTable;
+			if (table != null) {
+				count = matcher.matchAhoCorasick(Math.max(0, next - keep), filled, next, table);
+				next = filled;
+			} else {
+				int to = last ? filled : filled - keep;
+				if (to <= next)
+					return 0;
+				count = matcher.matchStarts(next, to, limit);
+				next = to;
+			}
+			if (matcher.stop)
+				stopped = true;
+			return count;
+		}
+
+		@Override
+		public void reset() {
+			filled = 0;
+			next = 0;
+			bufferStart = 0;
+			stopped = false;
+		}
+
+		@Override
+		public long position() {
+			return bufferStart + filled;
+		}
+	}
+
+	public abstract class InnerMatcher implements SubMatcher {
+		int start;
+		int end;
+		HitCallback callback;
+
+		boolean stop;
+
+		public InnerMatcher(int start, int end, HitCallback callback) {
+			this.start = start;
+			this.end = end;
+			this.callback = callback;
+		}
+
+		void reset(int start, int end) {
+			this.start = start;
+			this.end = end;
+			this.stop = false;
+		}
+
+		@Override
+		public int matchPrefix(int pos) {
+			int token = readers.enter();
+			try {
+				int limit = size;
+				if (limit == 0) {
+					return 0;
+				}
+				stop = false;
+				int count = 0;
+				count += matchTrie(pos, base(0), limit);
+				return count;
+			} finally {
+				readers.exit(token);
+			}
+		}
+
+		/**
+		 * 构建了 Aho-Corasick 链接时只扫描一遍文本, 命中按词尾位置的顺序回调
+		 * @param pos
+		 * @return
+		 */
+		@Override
+		public int matchAll(int pos) {
+			int token = readers.enter();
+			try {
+				int limit = size;
+				if (limit == 0) {
+					return 0;
+				}
+				IntArray table = acTable;
+				if (table != null) {
+					return matchAhoCorasick(pos, end, pos, table);
+				}
+				return matchStarts(pos, end, limit);
+			} finally {
+				readers.exit(token);
+			}
+		}
+
+		/**
+		 * 并行扫描的一段, 见 {@link DoubleArrayTrie#chunkTask}
+		 */
+		int matchRange(int from, int to) {
+			int token = readers.enter();
+			try {
+				int limit = size;
+				if (limit == 0) {
+					return 0;
+				}
+				IntArray table = acTable;
+				if (table != null) {
+					int pos = Math.max(start, from - Math.max(getMaxKeyLength() - 1, 0));
+					return matchAhoCorasick(pos, to, from, table);
+				}
+				return matchStarts(from, to, limit);
+			} finally {
+				readers.exit(token);
+			}
+		}
+
+		/**
+		 * 依次以 [from, to) 中的每个位置为词首匹配, 词可以超出 to
+		 */
+		int matchStarts(int from, int to, int limit) {
+			stop = false;
+			int count = 0;
+			int startBase = base(0);
+			long[] starts = startChars();
+			for (int i = from; i < to; i += 64) {
+				for (long mask = startMask(i, to, starts); mask != 0; mask &= mask - 1) {
+					count += matchTrie(i + Long.numberOfTrailingZeros(mask), startBase, limit);
+					if (stop) {
+						return count;
+					}
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * [i, min(i + 64, to)) 中能作为词首的位置, 见 {@link DoubleArrayTrie#startMask(char[], int, int, long[])}
+		 */
+		long startMask(int i, int to, long[] starts) {
+			int n = Math.min(64, to - i);
+			long mask = 0;
+			for (int k = 0; k < n; k++) {
+				char c = getInput(i + k);
+				mask |= (starts[c >>> 6] >>> c & 1L) << k;
+			}
+			return mask;
+		}
+
+		/**
+		 * [i, to) 中第一个能作为词首的位置, 没有时为 to. Aho-Corasick 回到根节点后用它跳过不能作为词首的字符
+		 */
+		int nextStart(int i, int to, long[] starts) {
+			for (; i < to; i++) {
+				char c = getInput(i);
+				if ((starts[c >>> 6] & (1L << c)) != 0)
+					break;
+			}
+			return i;
+		}
+
+		/**
+		 * 从 pos 开始扫描到 to, 只回调在 emitFrom 之后结束的词
+		 */
+		int matchAhoCorasick(int pos, int to, int emitFrom, IntArray table) {
+			stop = false;
+			int count = 0;
+			// insert/remove 之后链接失效, 这里只保证不会越界
+			int limit = Math.min(size, table.length() / AhoCorasick.STRIDE);
+			long[] starts = startChars();
+			int s = 0;
+			for (int i = pos; i < to; i++) {
+				if (s == 0) {
+					// 在根节点时, 不能作为词首的字符不会离开根节点, 也没有输出
+					i = nextStart(i, to, starts);
+					if (i == to)
+						break;
+				}
+				int code = codeOf(getInput(i));
+				while (true) {
+					int b = base(s);
+					int p = b + code;
+					if (p < limit && b == check(p)) {
+						s = p;
+						break;
+					}
+					if (s == 0)
+						break;
+					s = table.get(s * AhoCorasick.STRIDE + AhoCorasick.FAIL);
+				}
+
+				if (i < emitFrom)
+					continue;
+				int t = table.get(s * AhoCorasick.STRIDE + AhoCorasick.OUTPUT);
+				while (t != 0) {
+					int len = table.get(t * AhoCorasick.STRIDE + AhoCorasick.DEPTH);
+					count++;
+					if (!callback.hit(i + 1 - len, len, valueAt(t))) {
+						stop = true;
+						return count;
+					}
+					t = table.get(table.get(t * AhoCorasick.STRIDE + AhoCorasick.FAIL) * AhoCorasick.STRIDE + AhoCorasick.OUTPUT);
+				}
+			}
+			return count;
+		}
+
+		int matchTrie(int pos, int baseStart, int baseLimit) {
+			int b = baseStart;
+			int count = 0;
+			char c0;
+			for (int i = pos; i < end; i++) {
+				c0 = getInput(i);
+				//
+				int p = b + codeOf(c0);
+				if (p < baseLimit && b == check(p)) {
+					b = base(p);
+					if (b < 0) {
+						count += matchTail(-b - 1, pos, i + 1);
+						break;
+					}
+					p = b;
+					int n = base(p);
+					if (n < 0 && check(p) == p) {
+						count++;
+						if (!callback.hit(pos, i + 1 - pos, -n - 1)) {
+							stop = true;
+							break;
+						}
+					}
+				} else {
+					break;
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * 到达后缀在 tail 中的节点后, 比较剩余的输入
+		 */
+		private int matchTail(int t, int pos, int from) {
+			CharBuffer tl = tail;
+			int len = tl.get(t);
+			if (len > end - from)
+				return 0;
+			for (int k = 0; k < len; k++) {
+				if (tl.get(t + 1 + k) != fold(getInput(from + k)))
+					return 0;
+			}
+			if (!callback.hit(pos, from + len - pos, tailValue(t)))
+				stop = true;
+			return 1;
+		}
+
+		abstract char getInput(int index);
+	}
+
+	/**
+	 * 文本是 char[] 或 String, 可以 reset 成任意一种
+	 */
+	private class TextInnerMatcher extends InnerMatcher {
+		char[] chars;
+		String text;
+
+		public TextInnerMatcher(char[] chars, String text, int start, int end, HitCallback callback) {
+			super(start, end, callback);
+			this.chars = chars;
+			this.text = text;
+		}
+
+		@Override
+		public void reset(String text, int start, int end) {
+			this.chars = null;
+			this.text = text;
+			reset(start, end);
+		}
+
+		@Override
+		public void reset(char[] text, int start, int end) {
+			this.chars = text;
+			this.text = null;
+			reset(start, end);
+		}
+
+		@Override
+		char getInput(int index) {
+			char[] c = chars;
+			return c != null ? c[index] : text.charAt(index);
+		}
+
+		/**
+		 * char[] 的文本交给 DoubleArrayTrie 的扫描, 和 matchAll(char[], int, int, HitCallback) 共用
+		 */
+		@Override
+		int matchStarts(int from, int to, int limit) {
+			char[] c = chars;
+			if (c == null)
+				return super.matchStarts(from, to, limit);
+			return stopped(scanStarts(c, from, to, end, callback));
+		}
+
+		@Override
+		int matchAhoCorasick(int pos, int to, int emitFrom, IntArray table) {
+			char[] c = chars;
+			if (c == null)
+				return super.matchAhoCorasick(pos, to, emitFrom, table);
+			return stopped(scanAhoCorasick(c, pos, to, emitFrom, table, callback));
+		}
+
+		private int stopped(int r) {
+			stop = r < 0;
+			return r < 0 ? ~r : r;
+		}
+
+		@Override
+		long startMask(int i, int to, long[] starts) {
+			String t = text;
+			int n = Math.min(64, to - i);
+			long mask = 0;
+			for (int k = 0; k < n; k++) {
+				char ch = t.charAt(i + k);
+				mask |= (starts[ch >>> 6] >>> ch & 1L) << k;
+			}
+			return mask;
+		}
+
+		@Override
+		int nextStart(int i, int to, long[] starts) {
+			String t = text;
+			for (; i < to; i++) {
+				char ch = t.charAt(i);
+				if ((starts[ch >>> 6] & (1L << ch)) != 0)
+					break;
+			}
+			return i;
+		}
+	}
+}
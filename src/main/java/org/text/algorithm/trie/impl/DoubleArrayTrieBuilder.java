@@ -1,340 +1,1075 @@
-package org.text.algorithm.trie.impl;
-
-import org.text.algorithm.trie.TrieBuilder;
-
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.SortedMap;
-import java.util.TreeMap;
-
-//代码来自
-//https://github.com/komiya-atsushi/darts-java
-//是一个日本人将c++实现转换为java 实现
-//缺点: 要求输入是排序的!!!!
-public class DoubleArrayTrieBuilder implements TrieBuilder {
-
-	protected int check[];
-	protected int base[];
-
-	protected boolean used[];
-	protected int size;
-	protected int allocSize;
-	protected List<String> key;
-	protected int keySize;
-	protected int length[];
-	protected int value[];
-	protected int progress;
-	protected int nextCheckPos;
-	
-	protected TrieNodefactory nodeFactory;
-	
-	// boolean no_delete_;
-	protected int error_;
-
-	public DoubleArrayTrieBuilder() {
-		check = null;
-		base = null;
-		used = null;
-		size = 0;
-		allocSize = 0;
-		// no_delete_ = false;
-		error_ = 0;
-		this.nodeFactory = TrieNode.factory;
-	}
-	public DoubleArrayTrieBuilder(TrieNodefactory nodeFactory) {
-		check = null;
-		base = null;
-		used = null;
-		size = 0;
-		allocSize = 0;
-		// no_delete_ = false;
-		error_ = 0;
-		this.nodeFactory = nodeFactory;
-	}
-	
-	/**
-	 * 构造 trie 树
-	 * @param inputs
-	 * @return
-	 */
-	@Override
-	public int build(SortedMap<String, Integer> inputs) {
-		List<String> keys = new ArrayList<String>(inputs.size());
-		int[] values = new int[inputs.size()];
-
-		for (SortedMap.Entry<String, Integer> key : inputs.entrySet()) {
-			values[keys.size()] = key.getValue();
-			keys.add(key.getKey());
-		}
-		int r = build(keys, null, values, values.length);
-		keys.clear();
-		return r;
-	}
-
-	@Override
-	public void clear() {
-		// if (! no_delete_)
-		check = null;
-		base = null;
-		used = null;
-		allocSize = 0;
-		keySize = 0;
-		size = 0;
-		value = null;
-		key = null;
-		length = null;
-	}
-	
-	public void toTrie(DoubleArrayTrie trie) {
-		trie.attach(check, base, size);
-	}
-
-	@Override
-	public DoubleArrayTrie toTrie() {
-		DoubleArrayTrie trie = new DoubleArrayTrie();
-		toTrie(trie);
-		return trie;
-	}
-	
-	/**
-	 * 构造 trie 数, key 必须排序
-	 * 
-	 * @param key
-	 * @return
-	 */
-	public int build(List<String> key) {
-		return build(key, null, null, key.size());
-	}
-
-	/**
-	 *  构造 trie 数, key 必须排序
-	 * @param _key
-	 * @param _length
-	 * @param _value
-	 * @param _keySize
-	 * @return
-	 */
-	public int build(List<String> _key, int _length[], int _value[],
-			int _keySize) {
-		if (_keySize > _key.size() || _key == null)
-			return 0;
-
-		if(_key.isEmpty()) {
-			size = 0;
-			check = new int[0];
-			base = new int[0];
-			return 0;
-		}
-
-		// progress_func_ = progress_func;
-		key = _key;
-		length = _length;
-		keySize = _keySize;
-		value = _value;
-		progress = 0;
-
-		resize(65536 * 16);
-
-		base[0] = 1;
-		nextCheckPos = 0;
-
-		TrieNode root_node = nodeFactory.makeNode();
-		root_node.left = 0;
-		root_node.right = keySize;
-		root_node.depth = 0;
-		fixNode(root_node);
-
-		List<TrieNode> siblings = new ArrayList<TrieNode>();
-		fetch(root_node, siblings);
-		insert(siblings);
-
-		// size += (1 << 8 * 2) + 1; // ???
-		// if (size >= allocSize) resize (size);
-
-		used = null;
-		key = null;
-
-		return error_;
-	}
-
-	/***
-	 * 构建完节点后附加处理过程
-	 * @param node
-	 */
-	protected void fixNode(TrieNode node) {
-		
-	}
-	
-	/**
-	 * 构建完base后附加处理过程
-	 * @param begin
-	 * @param node
-	 */
-	protected void fixBase(int begin, TrieNode node) {
-		
-	}
-	
-	// inline _resize expanded
-	protected int resize(int newSize) {
-		int[] base2 = new int[newSize];
-		int[] check2 = new int[newSize];
-		boolean used2[] = new boolean[newSize];
-		if (allocSize > 0) {
-			System.arraycopy(base, 0, base2, 0, allocSize);
-			System.arraycopy(check, 0, check2, 0, allocSize);
-			System.arraycopy(used, 0, used2, 0, allocSize);
-		}
-
-		base = base2;
-		check = check2;
-		used = used2;
-
-		return allocSize = newSize;
-	}
-
-	private int fetch(TrieNode parent, List<TrieNode> siblings) {
-		if (error_ < 0)
-			return 0;
-
-		int prev = 0;
-
-		for (int i = parent.left; i < parent.right; i++) {
-			if ((length != null ? length[i] : key.get(i).length()) < parent.depth)
-				continue;
-
-			String tmp = key.get(i);
-
-			int cur = 0;
-			if ((length != null ? length[i] : tmp.length()) != parent.depth)
-				cur = (int) tmp.charAt(parent.depth) + 1;
-
-			if (prev > cur) {
-				error_ = -3;
-				return 0;
-			}
-
-			if (cur != prev || siblings.size() == 0) {
-				TrieNode tmp_node =  nodeFactory.makeNode();
-				tmp_node.parent = parent;
-				tmp_node.depth = parent.depth + 1;
-				tmp_node.code = cur;
-				tmp_node.left = i;
-				if (siblings.size() != 0)
-					siblings.get(siblings.size() - 1).right = i;
-
-				siblings.add(tmp_node);
-				fixNode(tmp_node);
-			}
-
-			prev = cur;
-		}
-
-		if (siblings.size() != 0)
-			siblings.get(siblings.size() - 1).right = parent.right;
-
-		return siblings.size();
-	}
-
-	private int insert(List<TrieNode> siblings) {
-		if (error_ < 0)
-			return 0;
-
-		int begin = 0;
-		int pos = ((siblings.get(0).code + 1 > nextCheckPos) ? siblings.get(0).code + 1
-				: nextCheckPos) - 1;
-		int nonzero_num = 0;
-		int first = 0;
-
-		if (allocSize <= pos)
-			resize(pos + 1);
-
-		outer: while (true) {
-			pos++;
-
-			if (allocSize <= pos)
-				resize(pos + 1);
-
-			if (check[pos] != 0) {
-				nonzero_num++;
-				continue;
-			} else if (first == 0) {
-				nextCheckPos = pos;
-				first = 1;
-			}
-
-			begin = pos - siblings.get(0).code;
-			if (allocSize <= (begin + siblings.get(siblings.size() - 1).code)) {
-				// progress can be zero
-				double l = (1.05 > 1.0 * keySize / (progress + 1)) ? 1.05 : 1.0
-						* keySize / (progress + 1);
-				resize((int) (allocSize * l));
-			}
-
-			if (used[begin])
-				continue;
-
-			for (int i = 1; i < siblings.size(); i++)
-				if (check[begin + siblings.get(i).code] != 0)
-					continue outer;
-
-			break;
-		}
-
-		// -- Simple heuristics --
-		// if the percentage of non-empty contents in check between the
-		// index
-		// 'next_check_pos' and 'check' is greater than some constant value
-		// (e.g. 0.9),
-		// new 'next_check_pos' index is written by 'check'.
-		if (1.0 * nonzero_num / (pos - nextCheckPos + 1) >= 0.95)
-			nextCheckPos = pos;
-
-		used[begin] = true;
-		size = (size > begin + siblings.get(siblings.size() - 1).code + 1) ? size
-				: begin + siblings.get(siblings.size() - 1).code + 1;
-
-		for (int i = 0; i < siblings.size(); i++)
-			check[begin + siblings.get(i).code] = begin;
-
-		for (int i = 0; i < siblings.size(); i++) {
-			List<TrieNode> new_siblings = new ArrayList<TrieNode>();
-
-			if (fetch(siblings.get(i), new_siblings) == 0) {
-				TrieNode node = siblings.get(i);
-				base[begin + node.code] = (value != null) ? (-value[node.left] - 1) : (-node.left - 1);
-				fixBase(begin, node);
-				if (value != null && (-value[node.left] - 1) >= 0) {
-					error_ = -2;
-					return 0;
-				}
-
-				progress++;
-				// if (progress_func_) (*progress_func_) (progress,
-				// keySize);
-			} else {
-				int h = insert(new_siblings);
-				TrieNode node = siblings.get(i);
-				base[begin + node.code] = h;
-				fixBase(begin, node);
-			}
-		}
-		return begin;
-	}
-
-	public static  void main(String[] args) throws IOException{
-		DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
-		SortedMap<String, Integer> inputs = new TreeMap<String, Integer>();
-		inputs.put("abcd", 1);
-		inputs.put("12345", 2);
-		inputs.put("123456789", 3);
-		inputs.put("mp3", 4);
-		
-		builder.build(inputs);
-		
-		DoubleArrayTrie trie = builder.toTrie();
-		builder.clear();
-		System.out.println(trie.exactMatchSearch("123456789"));
-		System.out.println(trie.matchAll("abcd 123456789 ").get(1).word);
-	}
-}
+package org.text.algorithm.trie.impl;
+
+import org.text.algorithm.CharFolding;
+import org.text.algorithm.trie.TrieBuilder;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+//代码来自
+//https://github.com/komiya-atsushi/darts-java
+//是一个日本人将c++实现转换为java 实现
+//缺点: 要求输入是排序的!!!!
+public class DoubleArrayTrieBuilder implements TrieBuilder {
+
+	protected int check[];
+	protected int base[];
+
+	protected boolean used[];
+	protected int size;
+	protected int allocSize;
+	protected List<String> key;
+	protected int keySize;
+	protected int length[];
+	protected int value[];
+	protected int progress;
+	protected int nextCheckPos;
+
+	/**
+	 * check 不为 0 的单元, 找空位时直接跳过连续占用的部分
+	 */
+	protected BitSet filled;
+
+	/**
+	 * 统计: 放置的兄弟节点组数, 以及为它们尝试过的候选空位数
+	 */
+	protected long insertCount;
+	protected long probeCount;
+
+	/**
+	 * 最长的 key 的长度, 随 toTrie 交给 trie, 见 {@link DoubleArrayTrie#getMaxKeyLength}
+	 */
+	protected int maxKeyLength;
+	
+	protected TrieNodefactory nodeFactory;
+
+	/**
+	 * buildUnsorted 排序时内存中最多缓存的 key 个数, 以及临时文件目录(null 为系统默认), 见 {@link #setSortBufferSize}
+	 */
+	protected int sortBufferSize = 1 << 20;
+	protected File tempDir;
+
+	/**
+	 * 流式构建时的输入, 此时 key 即为 keys, value 为 null
+	 */
+	private SortedKeys keys;
+
+	/**
+	 * 单分支后缀压缩: 子树中只有一个词的节点不再展开, 剩余的后缀和值存入 tail
+	 */
+	protected boolean tailCompression;
+	protected char tail[];
+	protected int tailSize;
+
+	/**
+	 * 字符编码表: 按字符在 key 中出现的次数从多到少编号, alphabet[i] 的编码为 i + 1.
+	 * codeTable 为 null 时字符 c 的编码为 c + 1
+	 */
+	protected boolean alphabetRemap;
+	protected int codeTable[];
+	protected char alphabet[];
+
+	/**
+	 * 字符归一化表, 见 setFolding
+	 */
+	protected CharFolding folding;
+
+	/**
+	 * 大于 0 时 toTrie 同时构建布隆过滤器, 见 setBloomFilter
+	 */
+	protected double bloomFalsePositiveRate;
+
+	/**
+	 * 大于 1 时并行构建, 见 setParallelism
+	 */
+	protected int parallelism = 1;
+
+	/**
+	 * 并行构建时共用的数组, 顺序构建时为 null; 以及本 builder 写入了 tail 位置的单元, 合并 tail 时要平移
+	 */
+	private SharedCells cells;
+	private int tailCells[];
+	private int tailCellCount;
+	
+	// boolean no_delete_;
+	protected int error_;
+
+	public DoubleArrayTrieBuilder() {
+		check = null;
+		base = null;
+		used = null;
+		size = 0;
+		allocSize = 0;
+		// no_delete_ = false;
+		error_ = 0;
+		this.nodeFactory = TrieNode.factory;
+	}
+	/**
+	 * 并行构建时的工作 builder, 共享 parent 的输入, 在共用的数组中放置一组子树
+	 */
+	private DoubleArrayTrieBuilder(DoubleArrayTrieBuilder parent, int keyCount, SharedCells cells) {
+		this(parent.nodeFactory);
+		key = parent.key;
+		keys = parent.keys;
+		length = parent.length;
+		value = parent.value;
+		keySize = keyCount;
+		codeTable = parent.codeTable;
+		tailCompression = parent.tailCompression;
+		this.cells = cells;
+		tailCells = new int[16];
+		// 已知被占用的单元, 包括别的 builder 占用的, 找空位时先查这里
+		filled = new BitSet();
+	}
+
+	public DoubleArrayTrieBuilder(TrieNodefactory nodeFactory) {
+		check = null;
+		base = null;
+		used = null;
+		size = 0;
+		allocSize = 0;
+		// no_delete_ = false;
+		error_ = 0;
+		this.nodeFactory = nodeFactory;
+	}
+	
+	/**
+	 * 构造 trie 树
+	 * @param inputs
+	 * @return
+	 */
+	@Override
+	public int build(SortedMap<String, Integer> inputs) {
+		List<String> keys = new ArrayList<String>(inputs.size());
+		int[] values = new int[inputs.size()];
+
+		for (SortedMap.Entry<String, Integer> key : inputs.entrySet()) {
+			values[keys.size()] = key.getValue();
+			keys.add(key.getKey());
+		}
+		int r = build(keys, null, values, values.length);
+		keys.clear();
+		return r;
+	}
+
+	/**
+	 * buildUnsorted 排序时内存中最多缓存的 key 个数, 超出的部分排好序写入临时文件.
+	 * <p>
+	 * 构建时顺序读取归并结果, 各层子节点的边界在归并时已经记录(每个 key 6 个字节, 见 {@link SortedKeys#lcp}),
+	 * 不需要先扫描整段 key; 每处理完一棵子树就释放它的 key, 所以 key 本身只有当前位置附近的几个留在内存中,
+	 * 大部分 key 有相同前缀时(例如都以 http 开头的 URL)也是如此. 除此之外的内存是双数组本身
+	 * @param sortBufferSize
+	 */
+	public void setSortBufferSize(int sortBufferSize) {
+		if (sortBufferSize <= 0)
+			throw new IllegalArgumentException("sortBufferSize: " + sortBufferSize);
+		this.sortBufferSize = sortBufferSize;
+	}
+
+	public void setTempDir(File tempDir) {
+		this.tempDir = tempDir;
+	}
+
+	/**
+	 * 打开后, 只通向一个词的分支不再在双数组中逐字符展开, 剩余的后缀连同值顺序存入一个字符数组,
+	 * 和原始 darts 的 TAIL 一样. 中文词典里这样的后缀很多, 双数组通常能小一半以上.
+	 * 压缩后的 trie 不支持 insert/remove 和 Aho-Corasick.
+	 * 后缀部分不生成节点, 也不会对它们调用 fixNode/fixBase.
+	 * @param tailCompression
+	 */
+	public void setTailCompression(boolean tailCompression) {
+		this.tailCompression = tailCompression;
+	}
+
+	/**
+	 * 打开后先统计 key 中各字符出现的次数, 次数越多的字符编码越小, 编码表随 trie 一起保存.
+	 * 中文字符的 UTF-16 编码分布在很宽的范围内, 兄弟节点在双数组里离得很远;
+	 * 换成紧凑的编码后数组更小, 构建也更快. 输入仍然按字符串自然顺序排序.
+	 * 打开后 fixNode/fixBase 看到的 TrieNode.code 是新的编码
+	 * @param alphabetRemap
+	 */
+	public void setAlphabetRemap(boolean alphabetRemap) {
+		this.alphabetRemap = alphabetRemap;
+	}
+
+	/**
+	 * 并行构建: 根节点的子节点照常放在 base 1 处, 它们下面的子树按 key 个数分成若干组,
+	 * 在 ForkJoinPool 中同时放进同一个数组. 每组和顺序构建一样从前往后找第一个放得下的位置,
+	 * 单元和 base 用 CAS 占用, 被别的组抢先占用时退回重找, 所以不需要合并, 组之间也不留空隙.
+	 * 数组布局和顺序构建不同, 每次构建也可能不同, 查询结果相同.
+	 * <p>
+	 * 数组大小和顺序构建基本相同: 附带的词库 (13.4 万词) 顺序构建为 70.6 万个单元,
+	 * 2 到 16 个线程时在 70.1 万到 71.6 万之间. 找空位的次数也和顺序构建相同, 但要额外查共用的位图,
+	 * 单核上 2 到 16 个线程总共用时为顺序构建的 1.3 到 1.6 倍. 多核上的加速比没有测过,
+	 * 各组都在数组前部找空位, 争用的程度取决于机器, 使用前先在目标机器上用
+	 * BuildBenchmark 的 parallelism 参数测量.
+	 * 子类覆盖了 fixNode/fixBase 或者使用临时文件流式构建时仍然顺序构建.
+	 * @param parallelism 线程数, 不大于 1 时顺序构建
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * 设置字符归一化表: key 先归一化再存入, 表随 trie 一起保存, 查询时输入的每个字符也先查表,
+	 * 例如全角转半角、大写转小写, 命中的位置仍然是原文中的位置.
+	 * 归一化后的 key 可能不再有序或者出现重复, 所以 build(List) 会转为 buildUnsorted,
+	 * 重复的 key 以后一个 value 为准
+	 * @param folding null 表示不做归一化
+	 */
+	public void setFolding(CharFolding folding) {
+		this.folding = folding;
+	}
+
+	/**
+	 * toTrie 时同时为精确查询构建分块的布隆过滤器, 见 {@link DoubleArrayTrie#buildBloomFilter}.
+	 * 查询的 key 大多不存在时(例如对照停用词表、实体表)使用, 误判率越低过滤器越大,
+	 * 构建后的实际误判率见 {@link DoubleArrayTrie#getBloomFalsePositiveRate}
+	 * @param falsePositiveRate 期望的误判率, 0 表示不构建
+	 */
+	public void setBloomFilter(double falsePositiveRate) {
+		if (!(falsePositiveRate >= 0 && falsePositiveRate < 1))
+			throw new IllegalArgumentException("falsePositiveRate: " + falsePositiveRate);
+		this.bloomFalsePositiveRate = falsePositiveRate;
+	}
+
+	/**
+	 * 最近一次构建放置的兄弟节点组数
+	 * @return
+	 */
+	public long getInsertCount() {
+		return insertCount;
+	}
+
+	/**
+	 * 最近一次构建为放置兄弟节点尝试过的候选空位总数
+	 * @return
+	 */
+	public long getProbeCount() {
+		return probeCount;
+	}
+
+	/**
+	 * 平均每组兄弟节点尝试的候选空位数, 用来确认构建时间随规模线性增长
+	 * @return
+	 */
+	public double getProbesPerInsert() {
+		return insertCount == 0 ? 0 : 1.0 * probeCount / insertCount;
+	}
+
+	/**
+	 * 构造 trie 树, 输入不需要排序, 相同的 key 以最后一个 value 为准.
+	 * 内存中最多缓存 sortBufferSize 个 key, 超出的部分先排序写入临时文件再归并,
+	 * 构建时按子树顺序读取归并结果, 处理完的子树随即释放, 见 {@link #setSortBufferSize}
+	 * @param inputs
+	 * @return
+	 * @throws IOException
+	 */
+	@Override
+	public int buildUnsorted(Iterator<? extends Map.Entry<String, Integer>> inputs) throws IOException {
+		try (ExternalSorter sorter = new ExternalSorter(sortBufferSize, tempDir)) {
+			while (inputs.hasNext()) {
+				Map.Entry<String, Integer> entry = inputs.next();
+				sorter.add(fold(entry.getKey()), entry.getValue());
+			}
+			try (SortedKeys sorted = sorter.finish()) {
+				return build(sorted);
+			}
+		}
+	}
+
+	/**
+	 * 从文本文件构造 trie 树, 每行一个 key, 可以用 tab 分隔跟上 value;
+	 * 没有 value 时以行号(从 0 开始)作为 value. 文件不需要排序.
+	 * 内存的限制同 {@link #buildUnsorted(Iterator)}
+	 * @param fileName
+	 * @param charset
+	 * @return
+	 * @throws IOException
+	 */
+	public int buildUnsorted(String fileName, Charset charset) throws IOException {
+		try (ExternalSorter sorter = new ExternalSorter(sortBufferSize, tempDir);
+			 BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(fileName), charset))) {
+			String line;
+			int lineNo = 0;
+			while ((line = reader.readLine()) != null) {
+				int tab = line.indexOf('\t');
+				if (tab < 0) {
+					sorter.add(fold(line), lineNo);
+				} else {
+					sorter.add(fold(line.substring(0, tab)), Integer.parseInt(line.substring(tab + 1).trim()));
+				}
+				lineNo++;
+			}
+			try (SortedKeys sorted = sorter.finish()) {
+				return build(sorted);
+			}
+		}
+	}
+
+	private String fold(String key) {
+		return folding != null ? folding.fold(key) : key;
+	}
+
+	/**
+	 * 有归一化表时, 把 build(List) 的输入交给 buildUnsorted 重新排序
+	 */
+	private int buildFolded(final List<String> _key, final int _length[], final int _value[], final int _keySize) {
+		Iterator<Map.Entry<String, Integer>> inputs = new Iterator<Map.Entry<String, Integer>>() {
+			int i;
+
+			@Override
+			public boolean hasNext() {
+				return i < _keySize;
+			}
+
+			@Override
+			public Map.Entry<String, Integer> next() {
+				String k = _key.get(i);
+				if (_length != null)
+					k = k.substring(0, _length[i]);
+				int v = _value != null ? _value[i] : i;
+				i++;
+				return new AbstractMap.SimpleImmutableEntry<String, Integer>(k, v);
+			}
+		};
+		try {
+			return buildUnsorted(inputs);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private int build(SortedKeys sorted) {
+		if (sorted.isEmpty()) {
+			size = 0;
+			check = new int[0];
+			base = new int[0];
+			tail = null;
+			tailSize = 0;
+			makeAlphabet(null);
+			maxKeyLength = 0;
+			return 0;
+		}
+
+		keys = sorted;
+		key = sorted;
+		tail = null;
+		tailSize = 0;
+		makeAlphabet(alphabetRemap ? sorted.charCounts : null);
+		length = null;
+		keySize = sorted.size();
+		value = null;
+		progress = 0;
+
+		filled = new BitSet();
+		insertCount = 0;
+		probeCount = 0;
+		maxKeyLength = 0;
+		resize(initialSize());
+
+		base[0] = 1;
+		nextCheckPos = 0;
+
+		TrieNode root_node = nodeFactory.makeNode();
+		root_node.left = 0;
+		root_node.right = keySize;
+		root_node.depth = 0;
+		fixNode(root_node);
+
+		// 各层的子节点边界在排序时已经记录好, 见 fetchSorted
+		List<TrieNode> siblings = new ArrayList<TrieNode>();
+		fetch(root_node, siblings);
+		insertRoot(siblings);
+
+		used = null;
+		filled = null;
+		key = null;
+		keys = null;
+
+		return error_;
+	}
+
+	@Override
+	public void clear() {
+		// if (! no_delete_)
+		check = null;
+		base = null;
+		used = null;
+		allocSize = 0;
+		keySize = 0;
+		size = 0;
+		value = null;
+		key = null;
+		keys = null;
+		length = null;
+		tail = null;
+		tailSize = 0;
+		makeAlphabet(null);
+	}
+	
+	public void toTrie(DoubleArrayTrie trie) {
+		trie.attach(check, base, size, tail != null ? Arrays.copyOf(tail, tailSize) : null);
+		if (alphabet != null)
+			trie.setAlphabet(alphabet.clone(), alphabet.length);
+		trie.setFolding(folding != null ? folding.table().clone() : null);
+		trie.maxKeyLength = maxKeyLength;
+		if (bloomFalsePositiveRate > 0)
+			trie.buildBloomFilter(bloomFalsePositiveRate);
+	}
+
+	@Override
+	public DoubleArrayTrie toTrie() {
+		DoubleArrayTrie trie = new DoubleArrayTrie();
+		toTrie(trie);
+		return trie;
+	}
+	
+	/**
+	 * 构造 trie 数, key 必须排序
+	 * 
+	 * @param key
+	 * @return
+	 */
+	public int build(List<String> key) {
+		return build(key, null, null, key.size());
+	}
+
+	/**
+	 *  构造 trie 数, key 必须排序
+	 * @param _key
+	 * @param _length
+	 * @param _value
+	 * @param _keySize
+	 * @return
+	 */
+	public int build(List<String> _key, int _length[], int _value[],
+			int _keySize) {
+		if (_keySize > _key.size() || _key == null)
+			return 0;
+
+		if(_key.isEmpty()) {
+			size = 0;
+			check = new int[0];
+			base = new int[0];
+			tail = null;
+			tailSize = 0;
+			makeAlphabet(null);
+			maxKeyLength = 0;
+			return 0;
+		}
+		if (folding != null)
+			return buildFolded(_key, _length, _value, _keySize);
+
+		// progress_func_ = progress_func;
+		key = _key;
+		tail = null;
+		tailSize = 0;
+		makeAlphabet(alphabetRemap ? countChars(_key, _length, _keySize) : null);
+		length = _length;
+		keySize = _keySize;
+		value = _value;
+		progress = 0;
+
+		filled = new BitSet();
+		insertCount = 0;
+		probeCount = 0;
+		maxKeyLength = 0;
+		resize(initialSize());
+
+		base[0] = 1;
+		nextCheckPos = 0;
+
+		TrieNode root_node = nodeFactory.makeNode();
+		root_node.left = 0;
+		root_node.right = keySize;
+		root_node.depth = 0;
+		fixNode(root_node);
+
+		List<TrieNode> siblings = new ArrayList<TrieNode>();
+		fetch(root_node, siblings);
+		insertRoot(siblings);
+
+		// size += (1 << 8 * 2) + 1; // ???
+		// if (size >= allocSize) resize (size);
+
+		used = null;
+		filled = null;
+		key = null;
+
+		return error_;
+	}
+
+	/***
+	 * 构建完节点后附加处理过程
+	 * @param node
+	 */
+	protected void fixNode(TrieNode node) {
+		
+	}
+	
+	/**
+	 * 构建完base后附加处理过程
+	 * @param begin
+	 * @param node
+	 */
+	protected void fixBase(int begin, TrieNode node) {
+		
+	}
+	
+	/**
+	 * 初始数组大小按每个 key 4 个单元估计, 不够时 insert 中再按进度扩容;
+	 * 至少比最大的编码大, 根节点的子节点放得下
+	 */
+	private int initialSize() {
+		int maxCode = codeTable != null ? alphabet.length : Character.MAX_VALUE + 1;
+		return (int) Math.min(Integer.MAX_VALUE - 8, Math.max(keySize * 4L, maxCode + 2L));
+	}
+
+	// inline _resize expanded
+	protected int resize(int newSize) {
+		int[] base2 = new int[newSize];
+		int[] check2 = new int[newSize];
+		boolean used2[] = new boolean[newSize];
+		if (allocSize > 0) {
+			System.arraycopy(base, 0, base2, 0, allocSize);
+			System.arraycopy(check, 0, check2, 0, allocSize);
+			System.arraycopy(used, 0, used2, 0, allocSize);
+		}
+
+		base = base2;
+		check = check2;
+		used = used2;
+
+		return allocSize = newSize;
+	}
+
+	private int fetch(TrieNode parent, List<TrieNode> siblings) {
+		if (error_ < 0)
+			return 0;
+		if (keys != null)
+			return fetchSorted(parent, siblings);
+
+		int prev = 0;
+
+		for (int i = parent.left; i < parent.right; i++) {
+			if ((length != null ? length[i] : key.get(i).length()) < parent.depth)
+				continue;
+
+			String tmp = key.get(i);
+
+			// cur 用来检查输入顺序, 节点的编码可能经过编码表转换
+			int cur = 0;
+			if ((length != null ? length[i] : tmp.length()) != parent.depth)
+				cur = (int) tmp.charAt(parent.depth) + 1;
+			else if (parent.depth > maxKeyLength)
+				maxKeyLength = parent.depth;
+
+			if (prev > cur) {
+				error_ = -3;
+				return 0;
+			}
+
+			if (cur != prev || siblings.size() == 0) {
+				TrieNode tmp_node =  nodeFactory.makeNode();
+				tmp_node.parent = parent;
+				tmp_node.depth = parent.depth + 1;
+				tmp_node.code = codeOf(cur);
+				tmp_node.left = i;
+				if (siblings.size() != 0)
+					siblings.get(siblings.size() - 1).right = i;
+
+				siblings.add(tmp_node);
+				fixNode(tmp_node);
+			}
+
+			prev = cur;
+		}
+
+		if (siblings.size() != 0)
+			siblings.get(siblings.size() - 1).right = parent.right;
+		sortByCode(siblings);
+
+		return siblings.size();
+	}
+
+	/**
+	 * 流式构建时由 {@link SortedKeys#lcp} 确定子节点的边界, 只读取 parent 的第一个 key
+	 */
+	private int fetchSorted(TrieNode parent, List<TrieNode> siblings) {
+		int depth = parent.depth;
+		String first = keys.get(parent.left);
+		// 结束符节点下没有子节点
+		if (first.length() < depth)
+			return 0;
+		int cur = 0;
+		if (first.length() != depth)
+			cur = first.charAt(depth) + 1;
+		else if (depth > maxKeyLength)
+			maxKeyLength = depth;
+		TrieNode last = addSibling(parent, cur, parent.left, siblings);
+		int[] lcp = keys.lcp;
+		for (int i = parent.left + 1; i < parent.right; i++) {
+			if (lcp[i] == depth) {
+				last.right = i;
+				last = addSibling(parent, keys.branch[i] + 1, i, siblings);
+			}
+		}
+		last.right = parent.right;
+		sortByCode(siblings);
+		return siblings.size();
+	}
+
+	private TrieNode addSibling(TrieNode parent, int cur, int left, List<TrieNode> siblings) {
+		TrieNode tmp_node = nodeFactory.makeNode();
+		tmp_node.parent = parent;
+		tmp_node.depth = parent.depth + 1;
+		tmp_node.code = codeOf(cur);
+		tmp_node.left = left;
+		siblings.add(tmp_node);
+		fixNode(tmp_node);
+		return tmp_node;
+	}
+
+	private int insert(List<TrieNode> siblings) {
+		if (error_ < 0)
+			return 0;
+
+		int begin = cells != null ? placeShared(siblings) : place(siblings);
+
+		// 子树按 key 的顺序处理, 流式构建时才能依次释放处理完的 key
+		if (codeTable != null)
+			siblings.sort((a, b) -> Integer.compare(a.left, b.left));
+
+		for (int i = 0; i < siblings.size(); i++) {
+			List<TrieNode> new_siblings = new ArrayList<TrieNode>();
+
+			if (isTail(siblings.get(i))) {
+				TrieNode node = siblings.get(i);
+				int v = valueOf(node.left);
+				if (v < 0) {
+					error_ = -2;
+					return 0;
+				}
+				setBase(begin + node.code, -appendTail(node, v) - 1);
+				if (cells != null)
+					addTailCell(begin + node.code);
+				fixBase(begin, node);
+				progress++;
+			} else if (fetch(siblings.get(i), new_siblings) == 0) {
+				TrieNode node = siblings.get(i);
+				int v = valueOf(node.left);
+				setBase(begin + node.code, -v - 1);
+				fixBase(begin, node);
+				if (v < 0) {
+					error_ = -2;
+					return 0;
+				}
+
+				progress++;
+				// if (progress_func_) (*progress_func_) (progress,
+				// keySize);
+			} else {
+				int h = insert(new_siblings);
+				TrieNode node = siblings.get(i);
+				setBase(begin + node.code, h);
+				fixBase(begin, node);
+			}
+			if (keys != null) {
+				// 子树处理完毕, 后面不会再访问这部分 key
+				keys.release(siblings.get(i).right);
+			}
+		}
+		return begin;
+	}
+
+	private void setBase(int index, int v) {
+		if (cells != null)
+			cells.setBase(index, v);
+		else
+			base[index] = v;
+	}
+
+	private void addTailCell(int index) {
+		if (tailCellCount == tailCells.length)
+			tailCells = Arrays.copyOf(tailCells, tailCellCount * 2);
+		tailCells[tailCellCount++] = index;
+	}
+
+	/**
+	 * 为兄弟节点找到 base 并占用它们的单元
+	 */
+	private int place(List<TrieNode> siblings) {
+		int begin = 0;
+		int pos = ((siblings.get(0).code + 1 > nextCheckPos) ? siblings.get(0).code + 1
+				: nextCheckPos) - 1;
+		int nonzero_num = 0;
+		int first = 0;
+
+		if (allocSize <= pos)
+			resize(pos + 1);
+
+		outer: while (true) {
+			// 跳过的单元都已占用, 和逐个检查 check 的结果相同
+			int next = filled.nextClearBit(pos + 1);
+			nonzero_num += next - pos - 1;
+			pos = next;
+			probeCount++;
+
+			if (allocSize <= pos)
+				resize(pos + 1);
+
+			if (first == 0) {
+				nextCheckPos = pos;
+				first = 1;
+			}
+
+			begin = pos - siblings.get(0).code;
+			if (allocSize <= (begin + siblings.get(siblings.size() - 1).code)) {
+				// progress can be zero
+				double l = (1.05 > 1.0 * keySize / (progress + 1)) ? 1.05 : 1.0
+						* keySize / (progress + 1);
+				resize(Math.max((int) (allocSize * l), begin + siblings.get(siblings.size() - 1).code + 1));
+			}
+
+			if (used[begin])
+				continue;
+
+			for (int i = 1; i < siblings.size(); i++)
+				if (check[begin + siblings.get(i).code] != 0)
+					continue outer;
+
+			break;
+		}
+
+		// -- Simple heuristics --
+		// if the percentage of non-empty contents in check between the
+		// index
+		// 'next_check_pos' and 'check' is greater than some constant value
+		// (e.g. 0.9),
+		// new 'next_check_pos' index is written by 'check'.
+		if (1.0 * nonzero_num / (pos - nextCheckPos + 1) >= 0.95)
+			nextCheckPos = pos;
+
+		used[begin] = true;
+		insertCount++;
+		size = (size > begin + siblings.get(siblings.size() - 1).code + 1) ? size
+				: begin + siblings.get(siblings.size() - 1).code + 1;
+
+		for (int i = 0; i < siblings.size(); i++) {
+			check[begin + siblings.get(i).code] = begin;
+			filled.set(begin + siblings.get(i).code);
+		}
+		return begin;
+	}
+
+	/**
+	 * 并行构建时在共用的数组中找空位, 和 place 一样从 nextCheckPos 开始找第一个放得下的位置.
+	 * 先用本 builder 的 filled 排除已知被占用的单元, 剩下的再查共用的位图, 查到被别人占用的记入 filled;
+	 * 检查和占用之间单元可能被别的 builder 抢先占用, 这时退回已占用的单元继续找
+	 */
+	private int placeShared(List<TrieNode> siblings) {
+		int first = siblings.get(0).code;
+		int last = siblings.get(siblings.size() - 1).code;
+		int pos = Math.max(first + 1, nextCheckPos) - 1;
+		int nonzero_num = 0;
+		boolean start = true;
+		int begin;
+
+		outer: while (true) {
+			int next = filled.nextClearBit(pos + 1);
+			nonzero_num += next - pos - 1;
+			pos = next;
+			if (!cells.isFree(pos)) {
+				filled.set(pos);
+				nonzero_num++;
+				continue;
+			}
+			probeCount++;
+
+			if (start) {
+				nextCheckPos = pos;
+				start = false;
+			}
+
+			begin = pos - first;
+			for (int i = 1; i < siblings.size(); i++) {
+				if (filled.get(begin + siblings.get(i).code))
+					continue outer;
+			}
+			for (int i = 1; i < siblings.size(); i++) {
+				int c = begin + siblings.get(i).code;
+				if (!cells.isFree(c)) {
+					filled.set(c);
+					continue outer;
+				}
+			}
+			if (!cells.claim(begin))
+				continue;
+			for (int i = 0; i < siblings.size(); i++) {
+				int c = begin + siblings.get(i).code;
+				if (!cells.fill(c)) {
+					filled.set(c);
+					while (--i >= 0)
+						cells.free(begin + siblings.get(i).code);
+					cells.release(begin);
+					continue outer;
+				}
+			}
+			break;
+		}
+
+		if (1.0 * nonzero_num / (pos - nextCheckPos + 1) >= 0.95)
+			nextCheckPos = pos;
+
+		insertCount++;
+		size = Math.max(size, begin + last + 1);
+		for (TrieNode node : siblings) {
+			cells.setCheck(begin + node.code, begin);
+			filled.set(begin + node.code);
+		}
+		return begin;
+	}
+
+	private void insertRoot(List<TrieNode> siblings) {
+		if (parallelism > 1 && getClass() == DoubleArrayTrieBuilder.class && (keys == null || keys.inMemory()))
+			insertParallel(siblings);
+		else
+			insert(siblings);
+	}
+
+	private void insertParallel(List<TrieNode> siblings) {
+		// 根节点的子节点和顺序构建一样放在 base 1 处
+		SharedCells cells = new SharedCells();
+		int begin = 1;
+		int rootSize = begin + siblings.get(siblings.size() - 1).code + 1;
+		// 下标 0 不作为 base, 不会出现 check 为 0 的节点
+		cells.claim(0);
+		cells.claim(begin);
+		cells.fill(0);
+		for (TrieNode node : siblings) {
+			cells.fill(begin + node.code);
+			cells.setCheck(begin + node.code, begin);
+		}
+		insertCount++;
+
+		List<List<TrieNode>> groups = new ArrayList<List<TrieNode>>();
+		int target = Math.max(1, keySize / parallelism);
+		int count = 0;
+		for (TrieNode node : siblings) {
+			if (groups.isEmpty() || count >= target) {
+				groups.add(new ArrayList<TrieNode>());
+				count = 0;
+			}
+			groups.get(groups.size() - 1).add(node);
+			count += node.right - node.left;
+		}
+
+		List<DoubleArrayTrieBuilder> workers = new ArrayList<DoubleArrayTrieBuilder>();
+		for (List<TrieNode> group : groups) {
+			int keyCount = group.get(group.size() - 1).right - group.get(0).left;
+			workers.add(new DoubleArrayTrieBuilder(this, keyCount, cells));
+		}
+
+		List<int[]> results = new ArrayList<int[]>();
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			List<ForkJoinTask<int[]>> tasks = new ArrayList<ForkJoinTask<int[]>>();
+			for (int k = 0; k < groups.size(); k++) {
+				DoubleArrayTrieBuilder worker = workers.get(k);
+				List<TrieNode> group = groups.get(k);
+				tasks.add(pool.submit(() -> worker.placeGroup(group)));
+			}
+			for (ForkJoinTask<int[]> task : tasks)
+				results.add(task.join());
+		} finally {
+			pool.shutdown();
+		}
+
+		int total = rootSize;
+		for (DoubleArrayTrieBuilder worker : workers) {
+			insertCount += worker.insertCount;
+			probeCount += worker.probeCount;
+			maxKeyLength = Math.max(maxKeyLength, worker.maxKeyLength);
+			total = Math.max(total, worker.size);
+			if (worker.error_ < 0) {
+				error_ = worker.error_;
+				return;
+			}
+		}
+
+		// 下标在放置时就是最终的下标, 只需把各组的 tail 接在一起
+		int[] base2 = new int[total];
+		int[] check2 = new int[total];
+		cells.copyTo(base2, check2, total);
+		base2[0] = base[0];
+		for (int k = 0; k < workers.size(); k++) {
+			DoubleArrayTrieBuilder worker = workers.get(k);
+			int tailOff = tailSize;
+			for (int i = 0; i < worker.tailCellCount; i++)
+				base2[worker.tailCells[i]] -= tailOff;
+			List<TrieNode> group = groups.get(k);
+			int[] result = results.get(k);
+			for (int j = 0; j < group.size(); j++) {
+				int b = result[j];
+				base2[begin + group.get(j).code] = b < 0 && isTail(group.get(j)) ? b - tailOff : b;
+			}
+			if (worker.tailSize > 0)
+				appendTail(worker.tail, worker.tailSize);
+		}
+		base = base2;
+		check = check2;
+		used = null;
+		allocSize = total;
+		size = total;
+	}
+
+	/**
+	 * 工作 builder 中放置一组根节点的子节点下面的子树
+	 * @return 每个子节点的 base, 下标是本 builder 数组中的下标
+	 */
+	private int[] placeGroup(List<TrieNode> group) {
+		int[] result = new int[group.size()];
+		for (int j = 0; j < group.size() && error_ >= 0; j++) {
+			TrieNode node = group.get(j);
+			List<TrieNode> children = new ArrayList<TrieNode>();
+			if (isTail(node)) {
+				int v = valueOf(node.left);
+				if (v < 0)
+					error_ = -2;
+				result[j] = -appendTail(node, v) - 1;
+			} else if (fetch(node, children) == 0) {
+				int v = valueOf(node.left);
+				if (v < 0)
+					error_ = -2;
+				result[j] = -v - 1;
+			} else {
+				result[j] = insert(children);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 按出现次数从多到少给字符编号
+	 * @param counts 每个字符出现的次数, null 表示不使用编码表
+	 */
+	private void makeAlphabet(long counts[]) {
+		if (counts == null) {
+			codeTable = null;
+			alphabet = null;
+			return;
+		}
+		List<Character> chars = new ArrayList<Character>();
+		for (int c = 0; c < counts.length; c++) {
+			if (counts[c] > 0)
+				chars.add((char) c);
+		}
+		chars.sort((a, b) -> counts[b] != counts[a] ? Long.compare(counts[b], counts[a]) : Character.compare(a, b));
+		alphabet = new char[chars.size()];
+		codeTable = new int[Character.MAX_VALUE + 1];
+		for (int i = 0; i < alphabet.length; i++) {
+			alphabet[i] = chars.get(i);
+			codeTable[alphabet[i]] = i + 1;
+		}
+	}
+
+	private static long[] countChars(List<String> keys, int length[], int keySize) {
+		long[] counts = new long[Character.MAX_VALUE + 1];
+		for (int i = 0; i < keySize; i++) {
+			String k = keys.get(i);
+			int len = length != null ? length[i] : k.length();
+			for (int j = 0; j < len; j++)
+				counts[k.charAt(j)]++;
+		}
+		return counts;
+	}
+
+	/**
+	 * 字符编码 c + 1 (结束符为 0) 转换成编码表中的编码
+	 */
+	private int codeOf(int code) {
+		return code == 0 || codeTable == null ? code : codeTable[code - 1];
+	}
+
+	/**
+	 * 使用编码表时兄弟节点的编码顺序和字符顺序不同, 放置前按编码排序
+	 */
+	private void sortByCode(List<TrieNode> siblings) {
+		if (codeTable != null)
+			siblings.sort((a, b) -> Integer.compare(a.code, b.code));
+	}
+
+	private int valueOf(int index) {
+		return (value != null) ? value[index] : (keys != null) ? keys.value(index) : index;
+	}
+
+	private int keyLength(int index) {
+		return length != null ? length[index] : key.get(index).length();
+	}
+
+	/**
+	 * 节点下只有一个词, 且不是结束符节点
+	 */
+	private boolean isTail(TrieNode node) {
+		return tailCompression && node.code != 0 && node.right - node.left == 1
+				&& keyLength(node.left) - node.depth <= Character.MAX_VALUE;
+	}
+
+	/**
+	 * 把节点之后的后缀和值追加到 tail
+	 * @return 在 tail 中的位置
+	 */
+	private int appendTail(TrieNode node, int v) {
+		String k = key.get(node.left);
+		int len = keyLength(node.left) - node.depth;
+		maxKeyLength = Math.max(maxKeyLength, node.depth + len);
+		ensureTail(tailSize + len + 3);
+		int t = tailSize;
+		tail[tailSize++] = (char) len;
+		k.getChars(node.depth, node.depth + len, tail, tailSize);
+		tailSize += len;
+		tail[tailSize++] = (char) (v >>> 16);
+		tail[tailSize++] = (char) v;
+		return t;
+	}
+
+	private void appendTail(char chars[], int n) {
+		ensureTail(tailSize + n);
+		System.arraycopy(chars, 0, tail, tailSize, n);
+		tailSize += n;
+	}
+
+	private void ensureTail(int need) {
+		if (tail == null || tail.length < need) {
+			tail = Arrays.copyOf(tail != null ? tail : new char[0], Math.max(need, Math.max(1024, tailSize * 2)));
+		}
+	}
+
+	public static  void main(String[] args) throws IOException{
+		DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+		SortedMap<String, Integer> inputs = new TreeMap<String, Integer>();
+		inputs.put("abcd", 1);
+		inputs.put("12345", 2);
+		inputs.put("123456789", 3);
+		inputs.put("mp3", 4);
+		
+		builder.build(inputs);
+		
+		DoubleArrayTrie trie = builder.toTrie();
+		builder.clear();
+		System.out.println(trie.exactMatchSearch("123456789"));
+		System.out.println(trie.matchAll("abcd 123456789 ").get(1).word);
+	}
+}
@@ -0,0 +1,243 @@
+package org.text.algorithm.trie.impl;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 内存受限的外部排序: 内存中最多缓存 bufferSize 个 key/value, 满了就排序后写入临时文件,
+ * 最后多路归并成一个有序、去重的临时文件. 相同的 key 以最后加入的 value 为准.
+ */
+final class ExternalSorter implements Closeable {
+	private static final class Entry implements Comparable<Entry> {
+		final String key;
+		final int value;
+
+		Entry(String key, int value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		public int compareTo(Entry o) {
+			return key.compareTo(o.key);
+		}
+	}
+
+	private static final class Run implements Comparable<Run> {
+		final int order;
+		final DataInputStream in;
+		int remaining;
+		String key;
+		int value;
+
+		Run(int order, File file, int count) throws IOException {
+			this.order = order;
+			this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16));
+			this.remaining = count;
+		}
+
+		boolean next() throws IOException {
+			if (remaining == 0)
+				return false;
+			remaining--;
+			key = readKey(in);
+			value = in.readInt();
+			return true;
+		}
+
+		@Override
+		public int compareTo(Run o) {
+			int r = key.compareTo(o.key);
+			return r != 0 ? r : Integer.compare(order, o.order);
+		}
+	}
+
+	private final int bufferSize;
+	private final File tempDir;
+	private final List<File> runFiles = new ArrayList<File>();
+	private final List<Integer> runCounts = new ArrayList<Integer>();
+	private Entry[] buffer;
+	private int count;
+
+	/**
+	 * 每个字符在 key 中出现的次数, 供构建字符编码表使用. 重复的 key 也会计入
+	 */
+	private final long[] charCounts = new long[Character.MAX_VALUE + 1];
+
+	ExternalSorter(int bufferSize, File tempDir) {
+		if (bufferSize <= 0)
+			throw new IllegalArgumentException("bufferSize: " + bufferSize);
+		this.bufferSize = bufferSize;
+		this.tempDir = tempDir;
+		this.buffer = new Entry[Math.min(bufferSize, 1024)];
+	}
+
+	void add(String key, int value) throws IOException {
+		if (count == bufferSize)
+			spill();
+		if (count == buffer.length)
+			buffer = Arrays.copyOf(buffer, Math.min(bufferSize, count * 2));
+		buffer[count++] = new Entry(key, value);
+		for (int i = 0; i < key.length(); i++)
+			charCounts[key.charAt(i)]++;
+	}
+
+	/**
+	 * 结束输入, 返回排序去重后的结果. 数据没有超出内存缓存时不使用临时文件.
+	 * @return
+	 * @throws IOException
+	 */
+	SortedKeys finish() throws IOException {
+		int n = sortBuffer();
+		if (runFiles.isEmpty()) {
+			String[] keys = new String[n];
+			int[] values = new int[n];
+			Branches branches = new Branches(n);
+			for (int i = 0; i < n; i++) {
+				keys[i] = buffer[i].key;
+				values[i] = buffer[i].value;
+				branches.add(keys[i], i);
+			}
+			buffer = null;
+			return new SortedKeys(keys, values, n, branches.lcp, branches.branch, charCounts);
+		}
+		if (n > 0)
+			writeRun(n);
+		buffer = null;
+		return merge();
+	}
+
+	private void spill() throws IOException {
+		writeRun(sortBuffer());
+	}
+
+	/**
+	 * 稳定排序, 相同的 key 只保留最后一个
+	 * @return 去重后的个数
+	 */
+	private int sortBuffer() {
+		Arrays.sort(buffer, 0, count);
+		int n = 0;
+		for (int i = 0; i < count; i++) {
+			if (n > 0 && buffer[n - 1].key.equals(buffer[i].key))
+				n--;
+			buffer[n++] = buffer[i];
+		}
+		Arrays.fill(buffer, n, count, null);
+		count = 0;
+		return n;
+	}
+
+	private void writeRun(int n) throws IOException {
+		File file = File.createTempFile("trie-run-", ".tmp", tempDir);
+		runFiles.add(file);
+		runCounts.add(n);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16))) {
+			for (int i = 0; i < n; i++) {
+				writeKey(out, buffer[i].key);
+				out.writeInt(buffer[i].value);
+				buffer[i] = null;
+			}
+		}
+	}
+
+	private SortedKeys merge() throws IOException {
+		File file = File.createTempFile("trie-sorted-", ".tmp", tempDir);
+		PriorityQueue<Run> queue = new PriorityQueue<Run>();
+		List<Run> runs = new ArrayList<Run>();
+		// 去重前的个数是上限, 不用边归并边扩容
+		int total = 0;
+		for (int count : runCounts)
+			total += count;
+		Branches branches = new Branches(total);
+		int n = 0;
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16))) {
+			for (int i = 0; i < runFiles.size(); i++) {
+				Run run = new Run(i, runFiles.get(i), runCounts.get(i));
+				runs.add(run);
+				if (run.next())
+					queue.add(run);
+			}
+			while (!queue.isEmpty()) {
+				Run run = queue.poll();
+				String key = run.key;
+				int value = run.value;
+				if (run.next())
+					queue.add(run);
+				// 后面的 run 中相同的 key 覆盖前面的
+				while (!queue.isEmpty() && queue.peek().key.equals(key)) {
+					Run same = queue.poll();
+					value = same.value;
+					if (same.next())
+						queue.add(same);
+				}
+				writeKey(out, key);
+				out.writeInt(value);
+				branches.add(key, n++);
+			}
+		} catch (IOException | RuntimeException e) {
+			file.delete();
+			throw e;
+		} finally {
+			for (Run run : runs)
+				run.in.close();
+			deleteRuns();
+		}
+		return new SortedKeys(file, n, branches.lcp, branches.branch, charCounts);
+	}
+
+	private void deleteRuns() {
+		for (File file : runFiles)
+			file.delete();
+		runFiles.clear();
+		runCounts.clear();
+	}
+
+	@Override
+	public void close() {
+		buffer = null;
+		deleteRuns();
+	}
+
+	static void writeKey(DataOutput out, String key) throws IOException {
+		out.writeInt(key.length());
+		out.writeChars(key);
+	}
+
+	static String readKey(DataInput in) throws IOException {
+		int len = in.readInt();
+		char[] chars = new char[len];
+		for (int i = 0; i < len; i++)
+			chars[i] = in.readChar();
+		return new String(chars);
+	}
+
+	/**
+	 * 记录有序 key 中每个 key 和前一个 key 的公共前缀长度以及分叉处的字符, 见 {@link SortedKeys#lcp}
+	 */
+	private static final class Branches {
+		final int[] lcp;
+		final char[] branch;
+		private String prev;
+
+		Branches(int capacity) {
+			lcp = new int[capacity];
+			branch = new char[capacity];
+		}
+
+		void add(String key, int index) {
+			int l = 0;
+			if (prev != null) {
+				int n = Math.min(prev.length(), key.length());
+				while (l < n && prev.charAt(l) == key.charAt(l))
+					l++;
+			}
+			lcp[index] = l;
+			branch[index] = l < key.length() ? key.charAt(l) : 0;
+			prev = key;
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package org.text.algorithm.trie.impl;
+
+/**
+ * 模糊查找的结果, 见 {@link DoubleArrayTrie#fuzzySearch}
+ */
+public class FuzzyResult {
+	public String word;
+	public int value;
+	/**
+	 * 和查询串的编辑距离
+	 */
+	public int distance;
+
+	public String toString() {
+		return word + "," + value + "," + distance;
+	}
+}
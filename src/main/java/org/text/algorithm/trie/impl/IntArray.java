@@ -0,0 +1,56 @@
+package org.text.algorithm.trie.impl;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+
+/**
+ * 只读的 int 序列, 数据在堆上的数组里, 或者是映射文件中的一段
+ */
+final class IntArray {
+	private final int[] array;
+	private final IntBuffer buffer;
+	private final int length;
+
+	private IntArray(int[] array, IntBuffer buffer, int length) {
+		this.array = array;
+		this.buffer = buffer;
+		this.length = length;
+	}
+
+	static IntArray of(int[] array) {
+		return new IntArray(array, null, array.length);
+	}
+
+	/**
+	 * buffer 从当前位置开始的 length 个 int, 不拷贝
+	 * @param buffer
+	 * @param length
+	 * @return
+	 */
+	static IntArray view(IntBuffer buffer, int length) {
+		IntBuffer slice = buffer.slice();
+		slice.limit(length);
+		return new IntArray(null, slice, length);
+	}
+
+	static IntArray read(BlockInput in, int length) throws IOException {
+		int[] array = new int[length];
+		in.readInts(array, 0, length);
+		return of(array);
+	}
+
+	int get(int index) {
+		return array != null ? array[index] : buffer.get(index);
+	}
+
+	int length() {
+		return length;
+	}
+
+	void write(BlockOutput out) throws IOException {
+		if (array != null)
+			out.writeInts(array, 0, length);
+		else
+			out.writeInts(buffer);
+	}
+}
@@ -0,0 +1,91 @@
+package org.text.algorithm.trie.impl;
+
+import java.nio.CharBuffer;
+
+/**
+ * 由值反查词用的索引, 不保存词本身, 存放为 [值的个数 n] [n 个词尾节点] [每个单元的父节点]:
+ * <ul>
+ * <li>词尾节点: 值为 v 的词所在的节点, 有 tail 时是 tail 节点, 没有这个值时为 -1</li>
+ * <li>父节点: 同 {@link ChildIndex#parent}, check 中只有父节点的 base, 没有它的下标</li>
+ * </ul>
+ * 查询时从词尾节点向根走, 每一步的字符编码是 p - check(p), 倒序得到词, 再接上 tail 中的后缀.
+ * 值应当是从 0 开始的编号, 表的长度由最大的值决定
+ */
+final class KeyIndex {
+	static final int LEAVES = 1;
+
+	private KeyIndex() {
+	}
+
+	static int[] build(DoubleArrayTrie trie) {
+		int size = trie.size;
+		ChildIndex index = size > 0 ? ChildIndex.of(trie) : null;
+		long max = -1;
+		for (int s = 0; s < size; s++) {
+			if (s == 0 || index.parent[s] >= 0)
+				max = Math.max(max, valueOf(trie, s));
+		}
+		if (LEAVES + max + 1 + size > Integer.MAX_VALUE - 8)
+			throw new IllegalStateException("values too large for key index: " + max);
+		int n = (int) max + 1;
+		int[] table = new int[LEAVES + n + size];
+		table[0] = n;
+		for (int i = 0; i < n; i++)
+			table[LEAVES + i] = -1;
+		for (int s = 0; s < size; s++) {
+			if (s != 0 && index.parent[s] < 0)
+				continue;
+			int v = valueOf(trie, s);
+			// 多个词的值相同时保留其中一个
+			if (v >= 0)
+				table[LEAVES + v] = s;
+		}
+		if (size > 0)
+			System.arraycopy(index.parent, 0, table, LEAVES + n, size);
+		return table;
+	}
+
+	/**
+	 * 节点 s 上结束的词的值, 没有时为 -1
+	 */
+	private static int valueOf(DoubleArrayTrie trie, int s) {
+		int b = trie.base(s);
+		if (b < 0)
+			return s != 0 ? trie.tailValue(-b - 1) : -1;
+		return trie.valueAt(s);
+	}
+
+	/**
+	 * 把值为 value 的词追加到 out
+	 * @return 没有这个值时返回 false, out 不变
+	 */
+	static boolean append(DoubleArrayTrie trie, IntArray table, int value, StringBuilder out) {
+		int n = table.get(0);
+		if (value < 0 || value >= n)
+			return false;
+		int s = table.get(LEAVES + value);
+		if (s < 0)
+			return false;
+		int leaf = s;
+		int from = out.length();
+		while (s != 0) {
+			out.append(trie.charOf(s - trie.check(s)));
+			s = table.get(LEAVES + n + s);
+		}
+		// 向根走得到的是倒序的字符, 逐个 char 交换, 代理对在交换后恢复原来的顺序
+		for (int i = from, j = out.length() - 1; i < j; i++, j--) {
+			char c = out.charAt(i);
+			out.setCharAt(i, out.charAt(j));
+			out.setCharAt(j, c);
+		}
+		int b = trie.base(leaf);
+		if (b < 0 && leaf != 0) {
+			CharBuffer tl = trie.tail;
+			int t = -b - 1;
+			int len = tl.get(t);
+			for (int k = 0; k < len; k++)
+				out.append(tl.get(t + 1 + k));
+		}
+		return true;
+	}
+}
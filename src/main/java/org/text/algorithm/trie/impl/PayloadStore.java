@@ -0,0 +1,181 @@
+package org.text.algorithm.trie.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.List;
+
+/**
+ * 按值编号存放的变长字节记录, 用来保存词性、权重等每个词的附加数据, 见 {@link DoubleArrayTrie#setPayloads}.
+ * 数据不在 Java 堆上: 构建和 open 时放在直接内存中, openMapped 时直接是映射文件中的一段.
+ * 第 id 条记录是 buffer() 中 [offset(id), offset(id) + length(id)) 的字节, 用绝对位置读取不需要分配对象.
+ * 只读, 可以多线程同时访问
+ */
+public final class PayloadStore {
+	/**
+	 * count + 1 个偏移, 第 id 条记录为 [offsets[id], offsets[id + 1])
+	 */
+	private final IntBuffer offsets;
+	private final ByteBuffer bytes;
+	private final int count;
+
+	private PayloadStore(IntBuffer offsets, ByteBuffer bytes, int count) {
+		this.offsets = offsets;
+		this.bytes = bytes;
+		this.count = count;
+	}
+
+	/**
+	 * @param records 第 i 个元素是值为 i 的词的附加数据, null 等同于空记录
+	 * @return
+	 */
+	public static PayloadStore of(List<byte[]> records) {
+		int count = records.size();
+		long total = 0;
+		for (byte[] r : records)
+			total += r != null ? r.length : 0;
+		if (total > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("payloads too large: " + total);
+		IntBuffer offsets = ByteBuffer.allocateDirect((count + 1) * 4).asIntBuffer();
+		ByteBuffer bytes = ByteBuffer.allocateDirect((int) total);
+		offsets.put(0, 0);
+		for (int i = 0; i < count; i++) {
+			byte[] r = records.get(i);
+			if (r != null)
+				bytes.put(r);
+			offsets.put(i + 1, bytes.position());
+		}
+		bytes.clear();
+		return new PayloadStore(offsets, bytes.asReadOnlyBuffer(), count);
+	}
+
+	/**
+	 * 记录条数, 有效的编号为 [0, size())
+	 * @return
+	 */
+	public int size() {
+		return count;
+	}
+
+	public boolean contains(int id) {
+		return id >= 0 && id < count;
+	}
+
+	/**
+	 * 第 id 条记录在 buffer() 中的起始位置
+	 * @param id
+	 * @return
+	 */
+	public int offset(int id) {
+		return offsets.get(check(id));
+	}
+
+	public int length(int id) {
+		check(id);
+		return offsets.get(id + 1) - offsets.get(id);
+	}
+
+	/**
+	 * 全部记录所在的只读缓冲, 所有调用者共享, 只能用绝对位置读取
+	 * @return
+	 */
+	public ByteBuffer buffer() {
+		return bytes;
+	}
+
+	/**
+	 * 第 id 条记录的只读视图, 会创建一个 ByteBuffer 对象
+	 * @param id
+	 * @return
+	 */
+	public ByteBuffer get(int id) {
+		ByteBuffer b = bytes.duplicate();
+		int off = offset(id);
+		b.position(off);
+		b.limit(off + length(id));
+		return b.slice();
+	}
+
+	/**
+	 * 复制第 id 条记录
+	 * @param id
+	 * @return
+	 */
+	public byte[] bytes(int id) {
+		byte[] result = new byte[length(id)];
+		copy(id, result, 0);
+		return result;
+	}
+
+	/**
+	 * 第 id 条记录复制到 dst 的 off 处, dst 要足够长
+	 * @return 记录的长度
+	 */
+	public int copy(int id, byte[] dst, int off) {
+		int start = offset(id);
+		int len = length(id);
+		for (int i = 0; i < len; i++)
+			dst[off + i] = bytes.get(start + i);
+		return len;
+	}
+
+	/**
+	 * 数据段的 int 个数: [条数] [字节数] [count + 1 个偏移] [字节, 每个 int 4 个, 高位在前, 最后补 0]
+	 */
+	int intLength() {
+		return 2 + count + 1 + (bytes.limit() + 3) / 4;
+	}
+
+	void write(BlockOutput out) throws IOException {
+		out.writeInt(count);
+		out.writeInt(bytes.limit());
+		IntBuffer o = offsets.duplicate();
+		o.clear();
+		o.limit(count + 1);
+		out.writeInts(o);
+		ByteBuffer b = bytes.duplicate();
+		b.clear();
+		out.writeBytes(b);
+	}
+
+	static PayloadStore read(BlockInput in, int length) throws IOException {
+		int count = in.readInt();
+		int total = in.readInt();
+		if (count < 0 || total < 0 || 2 + count + 1L + (total + 3L) / 4 != length)
+			throw new IOException("bad payload section");
+		IntBuffer offsets = ByteBuffer.allocateDirect((count + 1) * 4).asIntBuffer();
+		in.readInts(offsets);
+		offsets.clear();
+		ByteBuffer bytes = ByteBuffer.allocateDirect(total);
+		in.readBytes(bytes);
+		bytes.clear();
+		return new PayloadStore(offsets, bytes.asReadOnlyBuffer(), count);
+	}
+
+	/**
+	 * 映射文件中的数据段, 不拷贝
+	 * @param data 与 view 起点相同的字节视图
+	 * @param view 当前位置为数据段的开头
+	 * @param length 数据段的 int 个数
+	 */
+	static PayloadStore view(ByteBuffer data, IntBuffer view, int length) throws IOException {
+		int start = view.position();
+		int count = view.get(start);
+		int total = view.get(start + 1);
+		if (count < 0 || total < 0 || 2 + count + 1L + (total + 3L) / 4 != length)
+			throw new IOException("bad payload section");
+		IntBuffer offsets = view.duplicate();
+		offsets.position(start + 2);
+		offsets.limit(start + 2 + count + 1);
+		ByteBuffer bytes = data.duplicate();
+		bytes.position((start + 2 + count + 1) * 4);
+		bytes.limit(bytes.position() + total);
+		return new PayloadStore(offsets.slice(), bytes.slice().asReadOnlyBuffer(), count);
+	}
+
+	private int check(int id) {
+		if (id < 0 || id >= count)
+			throw new IndexOutOfBoundsException("id: " + id + ", size: " + count);
+		return id;
+	}
+}
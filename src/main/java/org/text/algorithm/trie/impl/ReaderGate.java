@@ -0,0 +1,75 @@
+package org.text.algorithm.trie.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 读者登记, insert/remove 回收单元前用它等待已开始的读操作结束.
+ * 读操作进入时在当前纪元的计数上加一, 结束时减一; 写者先把纪元加一,
+ * 之后进入的读者都记在另一组计数上, 再等旧纪元的计数全部归零,
+ * 这时已没有读者能看到改动前的单元, 可以清空重用.
+ * 计数按线程分散到多个槽, 每个槽独占一个缓存行, 读者之间不争抢同一处内存;
+ * 同一线程总落在同一个槽, 加一和减一不会被别的线程抵消.
+ * 每次读操作多两次原子加减, 批量查询和扫描整段文本时只登记一次
+ */
+final class ReaderGate {
+	/**
+	 * 槽的间隔, 16 个 long 是两个缓存行, 避免相邻槽伪共享
+	 */
+	private static final int PAD = 16;
+
+	private final int stripes;
+	/**
+	 * 两组计数, 纪元为偶数时用前一组, 奇数时用后一组
+	 */
+	private final AtomicLongArray counts;
+	private volatile int epoch;
+
+	ReaderGate() {
+		int n = Runtime.getRuntime().availableProcessors();
+		int s = 1;
+		while (s < n && s < 64)
+			s <<= 1;
+		stripes = s;
+		counts = new AtomicLongArray(2 * s * PAD);
+	}
+
+	/**
+	 * 读操作开始, 返回值交给 exit
+	 */
+	int enter() {
+		int stripe = (int) Thread.currentThread().getId() & (stripes - 1);
+		for (;;) {
+			int e = epoch;
+			int i = ((e & 1) * stripes + stripe) * PAD;
+			counts.incrementAndGet(i);
+			// 加一之后纪元没变, 写者等待时一定能看到这个计数
+			if (epoch == e)
+				return i;
+			counts.decrementAndGet(i);
+		}
+	}
+
+	void exit(int token) {
+		counts.decrementAndGet(token);
+	}
+
+	/**
+	 * 等待调用前已进入的读操作全部结束, 只由 synchronized 的写方法调用, 同一时间只有一个线程.
+	 * 读者的回调里调用会一直等待自己, 所以回调中不能修改同一个 trie
+	 */
+	void synchronize() {
+		int e = epoch;
+		epoch = e + 1;
+		int from = (e & 1) * stripes * PAD;
+		for (int k = 0; k < stripes; k++) {
+			int i = from + k * PAD;
+			for (int spins = 0; counts.get(i) != 0; spins++) {
+				if (spins < 64)
+					Thread.yield();
+				else
+					LockSupport.parkNanos(50_000L);
+			}
+		}
+	}
+}
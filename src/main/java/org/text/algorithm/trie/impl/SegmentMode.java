@@ -0,0 +1,19 @@
+package org.text.algorithm.trie.impl;
+
+/**
+ * 最大匹配分词的方向, 见 {@link DoubleArrayTrie#segment(char[], int, int, SegmentMode, org.text.algorithm.HitCallback)}
+ */
+public enum SegmentMode {
+	/**
+	 * 正向最大匹配: 从左到右, 每次取当前位置开始的最长词
+	 */
+	FORWARD,
+	/**
+	 * 逆向最大匹配: 从右到左, 每次取当前位置结束的最长词, 需要先 buildReverse
+	 */
+	BACKWARD,
+	/**
+	 * 双向最大匹配: 正向和逆向各切一遍, 取词数少的; 词数相同取单字少的, 仍然相同取逆向
+	 */
+	BIDIRECTIONAL
+}
@@ -0,0 +1,118 @@
+package org.text.algorithm.trie.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 并行构建时各工作 builder 共用的双数组. 单元的下标就是构建完成后的下标, 合并时直接拷贝.
+ * 单元和 base 是否已被占用记在位图中, 用 CAS 占用, 占到的 builder 才写入 check 和 base;
+ * 数组按页分配, 扩容时只换页表, 已有的页不会移动, 写入不需要加锁
+ */
+final class SharedCells {
+	private static final int SHIFT = 16;
+	private static final int MASK = (1 << SHIFT) - 1;
+	private static final int WORDS = 1 << (SHIFT - 6);
+
+	private static final class Page {
+		final AtomicLongArray filled = new AtomicLongArray(WORDS);
+		final AtomicLongArray begins = new AtomicLongArray(WORDS);
+		final int[] base = new int[1 << SHIFT];
+		final int[] check = new int[1 << SHIFT];
+	}
+
+	private volatile Page[] pages = new Page[0];
+
+	private Page page(int index) {
+		Page[] pages = this.pages;
+		int p = index >>> SHIFT;
+		return p < pages.length ? pages[p] : grow(p);
+	}
+
+	private synchronized Page grow(int p) {
+		Page[] pages = this.pages;
+		if (p < pages.length)
+			return pages[p];
+		Page[] pages2 = Arrays.copyOf(pages, p + 1);
+		for (int i = pages.length; i < pages2.length; i++)
+			pages2[i] = new Page();
+		this.pages = pages2;
+		return pages2[p];
+	}
+
+	/**
+	 * 读到的可能已经过时, 最终以 fill 的结果为准
+	 */
+	boolean isFree(int index) {
+		return (page(index).filled.get((index & MASK) >>> 6) & (1L << index)) == 0;
+	}
+
+	/**
+	 * 占用单元, 已被别的 builder 占用时返回 false
+	 */
+	boolean fill(int index) {
+		return set(page(index).filled, index);
+	}
+
+	/**
+	 * 退回 fill 占用的单元
+	 */
+	void free(int index) {
+		clear(page(index).filled, index);
+	}
+
+	/**
+	 * 登记 base, 已被使用时返回 false
+	 */
+	boolean claim(int begin) {
+		return set(page(begin).begins, begin);
+	}
+
+	void release(int begin) {
+		clear(page(begin).begins, begin);
+	}
+
+	private static boolean set(AtomicLongArray bits, int index) {
+		int w = (index & MASK) >>> 6;
+		long mask = 1L << index;
+		for (;;) {
+			long word = bits.get(w);
+			if ((word & mask) != 0)
+				return false;
+			if (bits.compareAndSet(w, word, word | mask))
+				return true;
+		}
+	}
+
+	private static void clear(AtomicLongArray bits, int index) {
+		int w = (index & MASK) >>> 6;
+		long mask = 1L << index;
+		for (;;) {
+			long word = bits.get(w);
+			if (bits.compareAndSet(w, word, word & ~mask))
+				return;
+		}
+	}
+
+	/**
+	 * 只能写自己占用的单元
+	 */
+	void setBase(int index, int value) {
+		page(index).base[index & MASK] = value;
+	}
+
+	void setCheck(int index, int value) {
+		page(index).check[index & MASK] = value;
+	}
+
+	/**
+	 * 所有 builder 完成后拷贝前 size 个单元
+	 */
+	void copyTo(int[] base, int[] check, int size) {
+		Page[] pages = this.pages;
+		for (int p = 0; p < pages.length && (p << SHIFT) < size; p++) {
+			int n = Math.min(1 << SHIFT, size - (p << SHIFT));
+			System.arraycopy(pages[p].base, 0, base, p << SHIFT, n);
+			System.arraycopy(pages[p].check, 0, check, p << SHIFT, n);
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package org.text.algorithm.trie.impl;
+
+import java.io.*;
+import java.util.AbstractList;
+import java.util.Arrays;
+
+/**
+ * 排序去重后的 key/value 序列, 供 {@link DoubleArrayTrieBuilder} 流式构建使用.
+ * 数据可以整个在内存中, 也可以从 {@link ExternalSorter} 归并出的临时文件中顺序读取.
+ * 构建时只按下标递增访问, 已经处理完的前缀可以通过 release 释放, 内存中只保留一个窗口.
+ * 子节点的边界由 lcp 得出, 构建每处理完一棵子树就释放, 窗口只有当前节点附近的几个 key
+ */
+final class SortedKeys extends AbstractList<String> implements Closeable {
+	private final int size;
+	private final DataInputStream in;
+	private final File file;
+
+	/**
+	 * 窗口中第一个元素的下标
+	 */
+	private int offset;
+	private int count;
+	private String[] keys;
+	private int[] values;
+
+	/**
+	 * lcp[i] 为第 i 个 key 和前一个 key 的公共前缀长度(第 0 个为 0), branch[i] 为第 i 个 key 在这个位置上的字符.
+	 * 深度为 d 的节点覆盖的 key 中, 除第一个外 lcp 等于 d 的位置就是它的下一个子节点的起点,
+	 * 所以各层子节点的边界都不需要读取 key 来确定. 每个 key 6 个字节, 在归并时顺带记录
+	 */
+	final int[] lcp;
+	final char[] branch;
+
+	/**
+	 * 每个字符在 key 中出现的次数
+	 */
+	final long[] charCounts;
+
+	SortedKeys(String[] keys, int[] values, int size, int[] lcp, char[] branch, long[] charCounts) {
+		this.size = size;
+		this.in = null;
+		this.file = null;
+		this.keys = keys;
+		this.values = values;
+		this.count = size;
+		this.lcp = lcp;
+		this.branch = branch;
+		this.charCounts = charCounts;
+	}
+
+	SortedKeys(File file, int size, int[] lcp, char[] branch, long[] charCounts) throws IOException {
+		this.size = size;
+		this.file = file;
+		this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16));
+		this.keys = new String[1024];
+		this.values = new int[1024];
+		this.lcp = lcp;
+		this.branch = branch;
+		this.charCounts = charCounts;
+	}
+
+	@Override
+	public String get(int index) {
+		// slot 可能扩容换掉数组, 要先于读取数组字段调用
+		int i = slot(index);
+		return keys[i];
+	}
+
+	/**
+	 * 数据整个在内存中时可以多线程同时读取
+	 */
+	boolean inMemory() {
+		return in == null;
+	}
+
+	int value(int index) {
+		int i = slot(index);
+		return values[i];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 释放下标小于 index 的元素, 之后不能再访问它们
+	 * @param index
+	 */
+	void release(int index) {
+		if (in == null || index <= offset)
+			return;
+		index = Math.min(index, size);
+		while (offset + count < index)
+			readNext();
+		int drop = index - offset;
+		System.arraycopy(keys, drop, keys, 0, count - drop);
+		System.arraycopy(values, drop, values, 0, count - drop);
+		Arrays.fill(keys, count - drop, count, null);
+		count -= drop;
+		offset += drop;
+	}
+
+	private int slot(int index) {
+		if (index < offset || index >= size)
+			throw new IndexOutOfBoundsException("index " + index + " not in window [" + offset + ", " + size + ")");
+		while (index >= offset + count)
+			readNext();
+		return index - offset;
+	}
+
+	private void readNext() {
+		if (count == keys.length) {
+			keys = Arrays.copyOf(keys, count * 2);
+			values = Arrays.copyOf(values, count * 2);
+		}
+		try {
+			keys[count] = ExternalSorter.readKey(in);
+			values[count] = in.readInt();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		count++;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (in != null) {
+			in.close();
+			file.delete();
+		}
+	}
+}
@@ -1,5 +1,5 @@
-package org.text.algorithm.trie.impl;
-
-public interface TrieNodefactory {
-	public TrieNode makeNode();
-}
+package org.text.algorithm.trie.impl;
+
+public interface TrieNodefactory {
+	public TrieNode makeNode();
+}
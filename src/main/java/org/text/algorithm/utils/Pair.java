@@ -1,24 +1,24 @@
-/* Copyright (c) 2018-2020, Aitek Co.
-
-   Permission to use, copy, modify, and/or distribute this software
-   for any purpose with or without fee is hereby granted, provided
-   that the above copyright notice and this permission notice appear
-   in all copies.
-
-   There is NO WARRANTY for this software.  See license.txt for
-   details. */
-package org.text.algorithm.utils;
-
-public class Pair<F, S> {
-    public final F first;
-    public final S second;
-
-    Pair(F first, S second) {
-        this.first = first;
-        this.second = second;
-    }
-
-    public static <F, S> Pair<F, S> of(F first, S second) {
-        return new Pair<>(first, second);
-    }
-}
+/* Copyright (c) 2018-2020, Aitek Co.
+
+   Permission to use, copy, modify, and/or distribute this software
+   for any purpose with or without fee is hereby granted, provided
+   that the above copyright notice and this permission notice appear
+   in all copies.
+
+   There is NO WARRANTY for this software.  See license.txt for
+   details. */
+package org.text.algorithm.utils;
+
+public class Pair<F, S> {
+    public final F first;
+    public final S second;
+
+    Pair(F first, S second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    public static <F, S> Pair<F, S> of(F first, S second) {
+        return new Pair<>(first, second);
+    }
+}
@@ -1,52 +1,130 @@
-package org.text.algorithm;
-
-import org.junit.Test;
-import org.text.algorithm.automa.Dfa;
-import org.text.algorithm.automa.DfaCompose;
-import org.text.algorithm.automa.SparseDfa;
-import org.text.algorithm.automa.StringDfa;
-
-import java.util.ArrayList;
-import java.util.List;
-
-public class AutomaTest {
-
-    static List<String> preparePatterns() {
-        List<String> patterns = new ArrayList<>();
-        patterns.add("aaa");
-        patterns.add("bbb");
-        patterns.add("abc");
-        patterns.sort((a,b)->a.compareTo(b));
-        return patterns;
-    }
-
-    static List<String> preparePatternsNum() {
-        List<String> patterns = new ArrayList<>();
-        patterns.add("123");
-        patterns.add("456");
-        patterns.add("1423");
-        patterns.sort((a,b)->a.compareTo(b));
-        return patterns;
-    }
-    @Test
-    public void testStringDfa() {
-
-        Dfa dfa = StringDfa.build(0, 0, preparePatterns());
-        System.out.println(dfa.match("bbb", 0));
-        System.out.println(dfa.startsWith("bbb is a valid string", 0));
-    }
-
-    @Test
-    public void testDfaCompose() {
-
-        Dfa dfa1 = StringDfa.build("a", 0, preparePatterns());
-        Dfa dfa2 = StringDfa.build("b", dfa1.getRoot() + dfa1.getStateCount(), preparePatternsNum());
-
-        DfaCompose compose = DfaCompose.compose(dfa1, dfa2);
-        System.out.println(compose.matchIds("bbb", 0));
-        System.out.println(compose.matchIds2("123", 0));
-
-        SparseDfa sparseDfa = compose.toSparseDfa();
-        System.out.println(sparseDfa.matchIds("123", 0));
-    }
-}
+package org.text.algorithm;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.text.algorithm.automa.Dfa;
+import org.text.algorithm.automa.DfaCompose;
+import org.text.algorithm.automa.SparseDfa;
+import org.text.algorithm.automa.StringDfa;
+import org.text.algorithm.automa.StringFst;
+import org.text.algorithm.trie.impl.DoubleArrayTrie;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+public class AutomaTest {
+
+    static List<String> preparePatterns() {
+        List<String> patterns = new ArrayList<>();
+        patterns.add("aaa");
+        patterns.add("bbb");
+        patterns.add("abc");
+        patterns.sort((a,b)->a.compareTo(b));
+        return patterns;
+    }
+
+    static List<String> preparePatternsNum() {
+        List<String> patterns = new ArrayList<>();
+        patterns.add("123");
+        patterns.add("456");
+        patterns.add("1423");
+        patterns.sort((a,b)->a.compareTo(b));
+        return patterns;
+    }
+    @Test
+    public void testStringDfa() {
+
+        Dfa dfa = StringDfa.build(0, 0, preparePatterns());
+        System.out.println(dfa.match("bbb", 0));
+        System.out.println(dfa.startsWith("bbb is a valid string", 0));
+    }
+
+    @Test
+    public void testDfaCompose() {
+
+        Dfa dfa1 = StringDfa.build("a", 0, preparePatterns());
+        Dfa dfa2 = StringDfa.build("b", dfa1.getRoot() + dfa1.getStateCount(), preparePatternsNum());
+
+        DfaCompose compose = DfaCompose.compose(dfa1, dfa2);
+        System.out.println(compose.matchIds("bbb", 0));
+        System.out.println(compose.matchIds2("123", 0));
+
+        SparseDfa sparseDfa = compose.toSparseDfa();
+        System.out.println(sparseDfa.matchIds("123", 0));
+    }
+
+    @Test
+    public void testStringFst() {
+        Random random = new Random(51);
+        for (String alphabet : new String[]{"abc", "abcdefg中国人民海军", "一二三四五六七八九十百千万亿零"}) {
+            SortedMap<String, Integer> words = new TreeMap<>();
+            for (Map.Entry<String, Integer> e : TrieTest.randomWords(alphabet.length(), 3000, alphabet, 8).entrySet()) {
+                // 值和词的顺序无关, 也会有很大的值
+                words.put(e.getKey(), random.nextInt(4) == 0 ? Integer.MAX_VALUE - random.nextInt(10) : random.nextInt(1000));
+            }
+            words.put("", 5);
+            StringFst fst = StringFst.build(words);
+            DoubleArrayTrie trie = TrieTest.build(words);
+            Assert.assertEquals(words.size(), fst.getSize());
+
+            for (Map.Entry<String, Integer> e : words.entrySet()) {
+                Assert.assertEquals(e.getKey(), e.getValue().intValue(), fst.get(e.getKey()));
+                char[] chars = ("x" + e.getKey()).toCharArray();
+                Assert.assertEquals(e.getValue().intValue(), fst.get(chars, 1, chars.length));
+            }
+            for (int i = 0; i < 1000; i++) {
+                StringBuilder sb = new StringBuilder();
+                for (int k = random.nextInt(10); k > 0; k--) {
+                    sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                String key = sb.toString();
+                Integer expected = words.get(key);
+                Assert.assertEquals(expected != null ? expected : -1, fst.get(key));
+            }
+
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 500; i++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String text = sb.toString();
+            List<String> expected = new ArrayList<>();
+            List<String> actual = new ArrayList<>();
+            int count = trie.newMatcher(text, (off, len, value) -> expected.add(off + "," + len + "," + value)).matchAll(0);
+            SubMatcher matcher = fst.newMatcher(text, (off, len, value) -> actual.add(off + "," + len + "," + value));
+            Assert.assertEquals(count, matcher.matchAll(0));
+            Assert.assertEquals(expected, actual);
+
+            expected.clear();
+            actual.clear();
+            trie.newMatcher(text, (off, len, value) -> expected.add(off + "," + len + "," + value)).matchPrefix(7);
+            matcher.reset(text.toCharArray(), 0, text.length());
+            matcher.matchPrefix(7);
+            Assert.assertEquals(expected, actual);
+
+            // 回调返回 false 时停止
+            actual.clear();
+            matcher = fst.newMatcher(text, (off, len, value) -> actual.add(off + "," + len) && actual.size() < 3);
+            Assert.assertEquals(3, matcher.matchAll(0));
+        }
+
+        // 合并相同的后缀: 值按顺序编号时只比前缀树多很少的状态
+        List<String> keys = new ArrayList<>();
+        for (String prefix : new String[]{"甲", "乙", "丙", "丁"}) {
+            for (String suffix : new String[]{"子", "丑", "寅", "卯"}) {
+                keys.add(prefix + suffix + "年");
+            }
+        }
+        keys.sort(String::compareTo);
+        StringFst fst = StringFst.build(keys, null);
+        for (int i = 0; i < keys.size(); i++) {
+            Assert.assertEquals(i, fst.get(keys.get(i)));
+        }
+        Assert.assertEquals(-1, fst.get("甲子"));
+        Assert.assertEquals(4, fst.getStateCount());
+        Assert.assertEquals(-1, StringFst.build(new ArrayList<String>(), null).get(""));
+    }
+}
@@ -0,0 +1,1597 @@
+package org.text.algorithm;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.text.algorithm.trie.Trie;
+import org.text.algorithm.trie.TrieBuilder;
+import org.text.algorithm.trie.impl.DoubleArrayTrie;
+import org.text.algorithm.trie.impl.DoubleArrayTrieBuilder;
+import org.text.algorithm.trie.impl.FuzzyResult;
+import org.text.algorithm.trie.impl.PayloadStore;
+import org.text.algorithm.trie.impl.SegmentMode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TrieTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    static SortedMap<String, Integer> prepareWords() {
+        SortedMap<String, Integer> words = new TreeMap<>();
+        String[] items = {"中国", "中国人", "中华", "人民", "人民海军", "海军", "国家", "家", "abc", "ab", "a", "b12"};
+        for (int i = 0; i < items.length; i++) {
+            words.put(items[i], i);
+        }
+        return words;
+    }
+
+    static SortedMap<String, Integer> randomWords(long seed, int count, String alphabet, int maxLength) {
+        Random random = new Random(seed);
+        SortedMap<String, Integer> words = new TreeMap<>();
+        while (words.size() < count) {
+            int len = 1 + random.nextInt(maxLength);
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < len; i++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            words.put(sb.toString(), words.size());
+        }
+        return words;
+    }
+
+    static DoubleArrayTrie build(SortedMap<String, Integer> words) {
+        DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+        Assert.assertEquals(0, builder.build(words));
+        return builder.toTrie();
+    }
+
+    static List<String> collect(TextMatcher matcher, String text) {
+        List<String> hits = new ArrayList<>();
+        matcher.newMatcher(text, (off, len, value) -> {
+            hits.add(off + ":" + len + ":" + value);
+            return true;
+        }).matchAll(0);
+        return hits;
+    }
+
+    static void assertSameLookups(DoubleArrayTrie expected, DoubleArrayTrie actual, SortedMap<String, Integer> words, String text) {
+        for (String word : words.keySet()) {
+            Assert.assertEquals(expected.exactMatchSearch(word), actual.exactMatchSearch(word));
+            Assert.assertEquals(expected.exactMatchSearch(word + "x"), actual.exactMatchSearch(word + "x"));
+            Assert.assertEquals(expected.commonPrefixSearch(word).toString(), actual.commonPrefixSearch(word).toString());
+        }
+        Assert.assertEquals(expected.matchAll(text).toString(), actual.matchAll(text).toString());
+        Assert.assertEquals(collect(expected, text), collect(actual, text));
+    }
+
+    @Test
+    public void testOpenMapped() throws IOException {
+        SortedMap<String, Integer> words = prepareWords();
+        DoubleArrayTrie trie = build(words);
+        File file = folder.newFile("words.dat");
+        trie.save(file.getPath());
+
+        DoubleArrayTrie mapped = new DoubleArrayTrie();
+        mapped.openMapped(file.getPath());
+        Assert.assertTrue(mapped.isMapped());
+        Assert.assertEquals(trie.getSize(), mapped.getSize());
+        assertSameLookups(trie, mapped, words, "在人民海军成立72周年之际，中国人abc国家");
+
+        SortedMap<String, Integer> random = randomWords(1, 2000, "abcdefg中国人民海军", 8);
+        trie = build(random);
+        file = folder.newFile("random.dat");
+        trie.save(file.getPath());
+        mapped.openMapped(file.getPath());
+        assertSameLookups(trie, mapped, random, "abcdefg中国人民海军gfedcba海军中国abcabcabc");
+
+        Trie loaded = new DoubleArrayTrie();
+        loaded.open(file.getPath());
+        Assert.assertFalse(((DoubleArrayTrie) loaded).isMapped());
+        assertSameLookups(trie, (DoubleArrayTrie) loaded, random, "abcdefg中国人民海军gfedcba");
+    }
+
+    static List<String> sorted(List<String> hits) {
+        List<String> result = new ArrayList<>(hits);
+        Collections.sort(result);
+        return result;
+    }
+
+    @Test
+    public void testAhoCorasick() throws IOException {
+        SortedMap<String, Integer> words = randomWords(2, 3000, "abcd中国人民", 6);
+        DoubleArrayTrie trie = build(words);
+        DoubleArrayTrie ac = build(words);
+        Assert.assertFalse(ac.hasAhoCorasick());
+        ac.buildAhoCorasick();
+        Assert.assertTrue(ac.hasAhoCorasick());
+
+        String text = randomWords(3, 50, "abcd中国人民xy", 20).keySet().toString();
+        List<String> expected = sorted(collect(trie, text));
+        Assert.assertFalse(expected.isEmpty());
+        Assert.assertEquals(expected, sorted(collect(ac, text)));
+        Assert.assertEquals(trie.matchAll(text).size(), ac.matchAll(text).size());
+
+        File file = folder.newFile("ac.dat");
+        ac.save(file.getPath());
+        DoubleArrayTrie loaded = new DoubleArrayTrie();
+        loaded.open(file.getPath());
+        Assert.assertTrue(loaded.hasAhoCorasick());
+        Assert.assertEquals(collect(ac, text), collect(loaded, text));
+
+        DoubleArrayTrie mapped = new DoubleArrayTrie();
+        mapped.openMapped(file.getPath());
+        Assert.assertTrue(mapped.hasAhoCorasick());
+        Assert.assertEquals(collect(ac, text), collect(mapped, text));
+
+        int[] count = new int[1];
+        ac.newMatcher(text, (off, len, value) -> ++count[0] < 3).matchAll(0);
+        Assert.assertEquals(3, count[0]);
+    }
+
+    @Test
+    public void testBuildUnsorted() throws IOException {
+        SortedMap<String, Integer> words = randomWords(4, 5000, "abcdef中国人民海军", 7);
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(words.entrySet());
+        // 重复的 key 以最后一个为准
+        entries.add(new AbstractMap.SimpleEntry<>(words.firstKey(), 12345));
+        entries.add(new AbstractMap.SimpleEntry<>("", 7));
+        Collections.shuffle(entries, new Random(5));
+        entries.add(new AbstractMap.SimpleEntry<>(words.lastKey(), 54321));
+
+        SortedMap<String, Integer> expected = new TreeMap<>();
+        for (Map.Entry<String, Integer> entry : entries) {
+            expected.put(entry.getKey(), entry.getValue());
+        }
+
+        DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+        builder.setSortBufferSize(300);
+        builder.setTempDir(folder.getRoot());
+        Assert.assertEquals(0, builder.buildUnsorted(entries.iterator()));
+        DoubleArrayTrie trie = builder.toTrie();
+        Assert.assertEquals(12345, trie.exactMatchSearch(words.firstKey()));
+        Assert.assertEquals(54321, trie.exactMatchSearch(words.lastKey()));
+        assertSameLookups(build(expected), trie, expected, "abcdef中国人民海军abc中国人民");
+        Assert.assertEquals(0, folder.getRoot().list().length);
+
+        builder = new DoubleArrayTrieBuilder();
+        Assert.assertEquals(0, builder.buildUnsorted(entries.iterator()));
+        assertSameLookups(build(expected), builder.toTrie(), expected, "abcdef中国人民海军abc中国人民");
+
+        // 只实现了 build 的 TrieBuilder 使用默认的 buildUnsorted
+        DoubleArrayTrieBuilder delegate = new DoubleArrayTrieBuilder();
+        TrieBuilder minimal = new TrieBuilder() {
+            @Override
+            public int build(SortedMap<String, Integer> inputs) {
+                return delegate.build(inputs);
+            }
+
+            @Override
+            public int build(List<String> _key, int[] _length, int[] _value, int _keySize) {
+                return delegate.build(_key, _length, _value, _keySize);
+            }
+
+            @Override
+            public void clear() {
+                delegate.clear();
+            }
+
+            @Override
+            public DoubleArrayTrie toTrie() {
+                return delegate.toTrie();
+            }
+        };
+        Assert.assertEquals(0, minimal.buildUnsorted(entries.iterator()));
+        assertSameLookups(build(expected), minimal.toTrie(), expected, "abcdef中国人民海军abc中国人民");
+
+        File file = folder.newFile("words.txt");
+        Files.write(file.toPath(), new ArrayList<>(words.keySet()), StandardCharsets.UTF_8);
+        builder = new DoubleArrayTrieBuilder();
+        builder.setSortBufferSize(100);
+        Assert.assertEquals(0, builder.buildUnsorted(file.getPath(), StandardCharsets.UTF_8));
+        trie = builder.toTrie();
+        int line = 0;
+        for (String word : words.keySet()) {
+            Assert.assertEquals(line++, trie.exactMatchSearch(word));
+        }
+
+        // 所有 key 前缀相同时各层子节点仍按记录的边界展开, 结果和一次性构建相同
+        SortedMap<String, Integer> urls = new TreeMap<>();
+        for (Map.Entry<String, Integer> entry : randomWords(12, 3000, "abc/.中国", 12).entrySet()) {
+            urls.put("http://" + entry.getKey(), entry.getValue());
+        }
+        urls.put("http", 3000);
+        for (boolean compact : new boolean[]{false, true}) {
+            builder = new DoubleArrayTrieBuilder();
+            builder.setSortBufferSize(200);
+            builder.setTempDir(folder.getRoot());
+            builder.setTailCompression(compact);
+            builder.setAlphabetRemap(compact);
+            Assert.assertEquals(0, builder.buildUnsorted(urls.entrySet().iterator()));
+            trie = builder.toTrie();
+            assertSameLookups(build(urls), trie, urls, "http://abc/中国http://a.b");
+            Assert.assertEquals(build(urls).getMaxKeyLength(), trie.getMaxKeyLength());
+        }
+    }
+
+    static void assertContent(DoubleArrayTrie trie, SortedMap<String, Integer> expected, SortedMap<String, Integer> removed) {
+        for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+            Assert.assertEquals(entry.getKey(), entry.getValue().intValue(), trie.exactMatchSearch(entry.getKey()));
+        }
+        for (String key : removed.keySet()) {
+            if (!expected.containsKey(key)) {
+                Assert.assertEquals(key, -1, trie.exactMatchSearch(key));
+            }
+        }
+    }
+
+    @Test
+    public void testInsertRemove() {
+        SortedMap<String, Integer> expected = randomWords(6, 2000, "abcd中国人民海军", 6);
+        DoubleArrayTrie trie = build(expected);
+        trie.buildAhoCorasick();
+        SortedMap<String, Integer> candidates = randomWords(7, 3000, "abcde中国人民海军家", 7);
+        SortedMap<String, Integer> touched = new TreeMap<>();
+        Random random = new Random(8);
+        for (Map.Entry<String, Integer> entry : candidates.entrySet()) {
+            String key = entry.getKey();
+            touched.put(key, 0);
+            if (random.nextInt(3) == 0) {
+                Integer old = expected.remove(key);
+                Assert.assertEquals(old == null ? -1 : old, trie.remove(key));
+            } else {
+                int value = random.nextInt(100000);
+                Integer old = expected.put(key, value);
+                Assert.assertEquals(old == null ? -1 : old, trie.insert(key, value));
+            }
+        }
+        Assert.assertFalse(trie.hasAhoCorasick());
+        assertContent(trie, expected, touched);
+        String text = "abcde中国人民海军家abc海军中国人民dcba";
+        assertSameLookups(build(expected), trie, expected, text);
+
+        // 插入后重新构建的 Aho-Corasick 与重新构建的 trie 结果一致
+        trie.buildAhoCorasick();
+        Assert.assertEquals(sorted(collect(build(expected), text)), sorted(collect(trie, text)));
+
+        DoubleArrayTrie empty = new DoubleArrayTrie();
+        Assert.assertEquals(-1, empty.insert("中国", 1));
+        Assert.assertEquals(-1, empty.insert("", 2));
+        Assert.assertEquals(1, empty.exactMatchSearch("中国"));
+        Assert.assertEquals(2, empty.exactMatchSearch(""));
+        Assert.assertEquals(1, empty.remove("中国"));
+        Assert.assertEquals(-1, empty.exactMatchSearch("中国"));
+        Assert.assertEquals(-1, empty.remove("中国"));
+    }
+
+    @Test
+    public void testConcurrentReaders() throws InterruptedException {
+        SortedMap<String, Integer> stable = randomWords(9, 3000, "abcdef中国人民", 6);
+        DoubleArrayTrie trie = build(stable);
+        SortedMap<String, Integer> edits = randomWords(10, 1000, "abcdefgh中国人民海军家", 8);
+        edits.keySet().removeAll(stable.keySet());
+
+        // 查询不加锁, 和 insert/remove 同时进行: 已有的词一直查得到, 正在修改的词要么没有要么是新值
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        AtomicBoolean done = new AtomicBoolean();
+        String[] keys = edits.keySet().toArray(new String[0]);
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < 2; t++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    int[] out = new int[keys.length];
+                    while (!done.get()) {
+                        for (Map.Entry<String, Integer> entry : stable.entrySet()) {
+                            Assert.assertEquals(entry.getValue().intValue(), trie.exactMatchSearch(entry.getKey()));
+                        }
+                        trie.get(keys, out);
+                        for (int v : out) {
+                            Assert.assertTrue(v == -1 || v == 1);
+                        }
+                        trie.matchAll("abcdefgh中国人民海军家abcdef");
+                    }
+                } catch (Throwable e) {
+                    error.set(e);
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+        for (int round = 0; round < 2; round++) {
+            for (String key : keys) {
+                trie.insert(key, 1);
+            }
+            for (String key : keys) {
+                trie.remove(key);
+            }
+        }
+        done.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        Assert.assertNull(error.get());
+        assertContent(trie, stable, edits);
+
+        // 停在回调里的查询结束之前, insert 一直等待, 不会挂上新节点
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        char[] word = stable.firstKey().toCharArray();
+        Thread blocked = new Thread(() -> trie.matchAll(word, 0, word.length, (off, len, value) -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }));
+        blocked.start();
+        entered.await();
+        Thread writer = new Thread(() -> trie.insert("海军家海军家", 7));
+        writer.start();
+        writer.join(300);
+        Assert.assertTrue(writer.isAlive());
+        Assert.assertEquals(-1, trie.exactMatchSearch("海军家海军家"));
+        release.countDown();
+        writer.join();
+        blocked.join();
+        Assert.assertEquals(7, trie.exactMatchSearch("海军家海军家"));
+    }
+
+    static List<String> toStrings(HitBuffer hits) {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < hits.size(); i++) {
+            items.add(hits.offset(i) + ":" + hits.length(i) + ":" + hits.value(i));
+        }
+        return items;
+    }
+
+    static List<String> toStrings(List<Trie.TrieResult> results) {
+        List<String> items = new ArrayList<>();
+        for (Trie.TrieResult r : results) {
+            items.add(r.offset + ":" + r.len + ":" + r.value);
+        }
+        return items;
+    }
+
+    @Test
+    public void testHitBuffer() {
+        DoubleArrayTrie trie = build(prepareWords());
+        String text = "我们中国人民海军abc的国家b12";
+        char[] chars = text.toCharArray();
+        HitBuffer hits = new HitBuffer(1);
+
+        Assert.assertEquals(trie.matchAll(text).size(), trie.matchAll(chars, 0, chars.length, hits));
+        Assert.assertEquals(toStrings(trie.matchAll(text)), toStrings(hits));
+        Assert.assertEquals("中国人", hits.word(text, 1));
+        Assert.assertEquals("中国人", hits.word(chars, 1));
+
+        hits.clear();
+        Assert.assertEquals(2, trie.commonPrefixSearch(chars, 2, chars.length, hits));
+        Assert.assertEquals(toStrings(trie.commonPrefixSearch(chars, 2, chars.length, 0)), toStrings(hits));
+
+        hits.clear();
+        Assert.assertTrue(trie.matchOne(chars, 0, chars.length, hits));
+        Assert.assertEquals(Collections.singletonList("2:3:1"), toStrings(hits));
+        Assert.assertEquals("中国人,1,2,3", trie.matchOne(text).toString());
+        Assert.assertFalse(trie.matchOne(chars, 0, 2, hits));
+        Assert.assertNull(trie.matchOne("我们"));
+
+        // 一个匹配器在不同文本间重复使用
+        hits.clear();
+        SubMatcher matcher = trie.newMatcher("", hits);
+        for (String doc : new String[]{"人民海军", "abc", "国家"}) {
+            hits.clear();
+            matcher.reset(doc, 0, doc.length());
+            matcher.matchAll(0);
+            Assert.assertEquals(toStrings(trie.matchAll(doc)), toStrings(hits));
+        }
+        hits.clear();
+        matcher.reset(chars, 8, 11);
+        Assert.assertEquals(3, matcher.matchAll(8));
+        Assert.assertEquals(Arrays.asList("8:1:10", "8:2:9", "8:3:8"), toStrings(hits));
+        hits.clear();
+        Assert.assertEquals(0, matcher.matchPrefix(9));
+        Assert.assertEquals(3, matcher.matchPrefix(8));
+
+        // 直接在 char[] 上扫描和 String 文本的匹配器结果相同, 回调返回 false 时同样停止
+        DoubleArrayTrie ac = build(prepareWords());
+        ac.buildAhoCorasick();
+        for (DoubleArrayTrie t : new DoubleArrayTrie[]{trie, ac}) {
+            for (int stopAt = 1; stopAt <= 4; stopAt++) {
+                int limit = stopAt;
+                List<String> expected = new ArrayList<>();
+                List<String> actual = new ArrayList<>();
+                int count = t.newMatcher(text, (off, len, value) -> expected.add(off + ":" + len) && expected.size() < limit).matchAll(0);
+                Assert.assertEquals(count, t.matchAll(chars, 0, chars.length, (off, len, value) -> actual.add(off + ":" + len) && actual.size() < limit));
+                Assert.assertEquals(limit, count);
+                Assert.assertEquals(expected, actual);
+            }
+        }
+    }
+
+    static DoubleArrayTrie buildTail(SortedMap<String, Integer> words) {
+        DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+        builder.setTailCompression(true);
+        Assert.assertEquals(0, builder.build(words));
+        return builder.toTrie();
+    }
+
+    @Test
+    public void testTailCompression() throws IOException {
+        SortedMap<String, Integer> words = prepareWords();
+        words.putAll(randomWords(11, 5000, "中国人民海军家abc", 8));
+        words.put("", 77);
+        DoubleArrayTrie plain = build(words);
+        DoubleArrayTrie trie = buildTail(words);
+        Assert.assertTrue(trie.hasTail());
+        Assert.assertTrue(trie.getNonzeroSize() * 2 <= plain.getNonzeroSize());
+
+        String text = "我们中国人民海军abc的国家b12中国人民海军家abcab中";
+        assertSameLookups(plain, trie, words, text);
+        for (String word : words.keySet()) {
+            if (!word.isEmpty()) {
+                String shorter = word.substring(0, word.length() - 1);
+                Assert.assertEquals(plain.exactMatchSearch(shorter), trie.exactMatchSearch(shorter));
+            }
+            char[] chars = word.toCharArray();
+            Assert.assertEquals(plain.commonPrefixBestSearch(chars, 0, chars.length, 0) + "",
+                    trie.commonPrefixBestSearch(chars, 0, chars.length, 0) + "");
+        }
+        Assert.assertEquals(plain.matchOne(text).toString(), trie.matchOne(text).toString());
+
+        File file = folder.newFile("tail.dat");
+        trie.save(file.getAbsolutePath());
+        DoubleArrayTrie mapped = new DoubleArrayTrie();
+        mapped.openMapped(file.getAbsolutePath());
+        Assert.assertTrue(mapped.hasTail());
+        assertSameLookups(plain, mapped, words, text);
+        DoubleArrayTrie loaded = new DoubleArrayTrie();
+        loaded.open(file.getAbsolutePath());
+        assertSameLookups(plain, loaded, words, text);
+
+        try {
+            trie.buildAhoCorasick();
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            trie.insert("中国", 1);
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testAlphabetRemap() throws IOException {
+        SortedMap<String, Integer> words = prepareWords();
+        words.putAll(randomWords(12, 5000, "中国人民海军家abc", 8));
+        String text = "我们中国人民海军abc的国家b12中国人民海军家abcab中";
+        DoubleArrayTrie plain = build(words);
+
+        DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+        builder.setAlphabetRemap(true);
+        Assert.assertEquals(0, builder.build(words));
+        DoubleArrayTrie trie = builder.toTrie();
+        Assert.assertTrue(trie.hasAlphabet());
+        Assert.assertTrue(trie.getSize() < plain.getSize());
+        assertSameLookups(plain, trie, words, text);
+        Assert.assertEquals(-1, trie.exactMatchSearch("中华人民"));
+
+        builder.clear();
+        builder.setTailCompression(true);
+        Assert.assertEquals(0, builder.build(words));
+        assertSameLookups(plain, builder.toTrie(), words, text);
+
+        // 流式构建时根节点下的子树按 key 的顺序处理
+        builder = new DoubleArrayTrieBuilder();
+        builder.setAlphabetRemap(true);
+        builder.setSortBufferSize(500);
+        builder.setTempDir(folder.getRoot());
+        Assert.assertEquals(0, builder.buildUnsorted(words.entrySet().iterator()));
+        assertSameLookups(plain, builder.toTrie(), words, text);
+
+        trie.buildAhoCorasick();
+        Assert.assertEquals(sorted(collect(plain, text)), sorted(collect(trie, text)));
+
+        File file = folder.newFile("alphabet.dat");
+        builder = new DoubleArrayTrieBuilder();
+        builder.setAlphabetRemap(true);
+        Assert.assertEquals(0, builder.build(words));
+        builder.toTrie().save(file.getAbsolutePath());
+        DoubleArrayTrie mapped = new DoubleArrayTrie();
+        mapped.openMapped(file.getAbsolutePath());
+        Assert.assertTrue(mapped.hasAlphabet());
+        assertSameLookups(plain, mapped, words, text);
+        DoubleArrayTrie loaded = new DoubleArrayTrie();
+        loaded.open(file.getAbsolutePath());
+        assertSameLookups(plain, loaded, words, text);
+
+        // 新字符追加到编码表
+        SortedMap<String, Integer> expected = new TreeMap<>(words);
+        for (String key : new String[]{"江河", "人民江河", "xyz", "中"}) {
+            expected.put(key, expected.size());
+            Assert.assertEquals(plain.exactMatchSearch(key), loaded.insert(key, expected.get(key)));
+        }
+        assertSameLookups(build(expected), loaded, expected, text + "江河xyz");
+    }
+
+    @Test
+    public void testParallelBuild() throws IOException {
+        SortedMap<String, Integer> words = prepareWords();
+        words.putAll(randomWords(13, 20000, "中国人民海军家abcdefg", 9));
+        words.put("", 99);
+        // 兄弟节点的编码相差很大, 跨过共用数组的页
+        words.put("海\u0001", 3);
+        words.put("海\uffff", 4);
+        String text = "我们中国人民海军abc的国家b12中国人民海军家abcab中defg";
+        DoubleArrayTrie plain = build(words);
+
+        for (int mode = 0; mode < 4; mode++) {
+            DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+            builder.setParallelism(4);
+            builder.setTailCompression((mode & 1) != 0);
+            builder.setAlphabetRemap((mode & 2) != 0);
+            Assert.assertEquals(0, builder.build(words));
+            DoubleArrayTrie trie = builder.toTrie();
+            assertSameLookups(plain, trie, words, text);
+            Assert.assertEquals(-1, trie.exactMatchSearch("中国人民海军家abcdefg中"));
+            if (mode == 0) {
+                // 各组放进同一个数组, 大小和顺序构建相近
+                Assert.assertTrue(trie.getSize() + " / " + plain.getSize(), trie.getSize() < plain.getSize() * 1.1);
+                trie.buildAhoCorasick();
+                Assert.assertEquals(sorted(collect(plain, text)), sorted(collect(trie, text)));
+                Assert.assertEquals(-1, trie.insert("江河", 5));
+                Assert.assertEquals(5, trie.exactMatchSearch("江河"));
+            }
+        }
+
+        DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+        builder.setParallelism(3);
+        Assert.assertEquals(0, builder.buildUnsorted(words.entrySet().iterator()));
+        assertSameLookups(plain, builder.toTrie(), words, text);
+    }
+
+    @Test
+    public void testProbeStats() throws IOException {
+        SortedMap<String, Integer> words = prepareWords();
+        DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+        Assert.assertEquals(0, builder.build(words));
+        long inserts = builder.getInsertCount();
+        long probes = builder.getProbeCount();
+        Assert.assertTrue(inserts > 0);
+        Assert.assertTrue(probes >= inserts);
+        Assert.assertEquals(1.0 * probes / inserts, builder.getProbesPerInsert(), 1e-9);
+
+        // 每次构建重新统计, 相同输入得到相同的结果
+        builder.clear();
+        Assert.assertEquals(0, builder.build(words));
+        Assert.assertEquals(inserts, builder.getInsertCount());
+        Assert.assertEquals(probes, builder.getProbeCount());
+    }
+
+    static List<String> segment(DoubleArrayTrie trie, String text, SegmentMode mode) {
+        HitBuffer hits = new HitBuffer();
+        Assert.assertEquals(trie.segment(text, mode, hits), hits.size());
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < hits.size(); i++) {
+            words.add(hits.word(text, i) + (hits.value(i) < 0 ? "?" : ""));
+        }
+        return words;
+    }
+
+    /**
+     * 逐个位置用 exactMatchSearch 实现的逆向最大匹配
+     */
+    static List<String> naiveBackward(DoubleArrayTrie trie, String text) {
+        char[] chars = text.toCharArray();
+        List<String> words = new ArrayList<>();
+        for (int e = chars.length; e > 0; ) {
+            int s = 0;
+            while (s < e - 1 && trie.exactMatchSearch(chars, s, e, 0) < 0) {
+                s++;
+            }
+            words.add(0, text.substring(s, e) + (trie.exactMatchSearch(chars, s, e, 0) < 0 ? "?" : ""));
+            e = s;
+        }
+        return words;
+    }
+
+    @Test
+    public void testSegment() throws IOException {
+        SortedMap<String, Integer> words = new TreeMap<>();
+        for (String w : new String[]{"研究", "研究生", "生命", "命", "起源", "结婚", "的", "和", "尚未", "和尚", "未", "ab", "cd", "bcd"}) {
+            words.put(w, words.size());
+        }
+        DoubleArrayTrie trie = build(words);
+        String text = "研究生命起源";
+        Assert.assertEquals(Arrays.asList("研究生", "命", "起源"), segment(trie, text, SegmentMode.FORWARD));
+        try {
+            trie.segment(text, SegmentMode.BACKWARD, new HitBuffer());
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // 没有倒序 trie
+        }
+        trie.buildReverse();
+        Assert.assertTrue(trie.hasReverse());
+        Assert.assertEquals(Arrays.asList("研究", "生命", "起源"), segment(trie, text, SegmentMode.BACKWARD));
+        Assert.assertEquals(Arrays.asList("研究", "生命", "起源"), segment(trie, text, SegmentMode.BIDIRECTIONAL));
+        // 词数相同单字也相同时取逆向
+        Assert.assertEquals(Arrays.asList("结婚", "的", "和", "尚未", "结婚", "的"),
+                segment(trie, "结婚的和尚未结婚的", SegmentMode.BIDIRECTIONAL));
+        // 词数相同时取单字少的正向结果; 词典中没有的字单独成词
+        Assert.assertEquals(Arrays.asList("a?", "bcd"), segment(trie, "abcd", SegmentMode.BACKWARD));
+        Assert.assertEquals(Arrays.asList("ab", "cd"), segment(trie, "abcd", SegmentMode.BIDIRECTIONAL));
+        Assert.assertEquals(Arrays.asList("x?", "研究", "y?"), segment(trie, "x研究y", SegmentMode.BIDIRECTIONAL));
+
+        // 回调返回 false 时停止
+        List<Integer> offsets = new ArrayList<>();
+        Assert.assertEquals(2, trie.segment(text.toCharArray(), 0, text.length(), SegmentMode.BACKWARD, (off, len, value) -> {
+            offsets.add(off);
+            return offsets.size() < 2;
+        }));
+        Assert.assertEquals(Arrays.asList(0, 2), offsets);
+
+        // 修改时倒序 trie 同步更新, 保存后仍然可用
+        trie.insert("究生命", 100);
+        trie.remove("研究");
+        Assert.assertEquals(Arrays.asList("研?", "究生命", "起源"), segment(trie, text, SegmentMode.BACKWARD));
+        Assert.assertEquals(Arrays.asList("研?", "究?"), segment(trie, "研究", SegmentMode.BACKWARD));
+        File file = folder.newFile("segment.trie");
+        trie.save(file.getPath());
+        DoubleArrayTrie loaded = new DoubleArrayTrie();
+        loaded.open(file.getPath());
+        DoubleArrayTrie mapped = new DoubleArrayTrie();
+        mapped.openMapped(file.getPath());
+        for (DoubleArrayTrie t : new DoubleArrayTrie[]{loaded, mapped}) {
+            Assert.assertTrue(t.hasReverse());
+            Assert.assertEquals(segment(trie, text, SegmentMode.BACKWARD), segment(t, text, SegmentMode.BACKWARD));
+        }
+
+        // 后缀压缩、编码表下的倒序 trie 和逐个位置查找的结果相同
+        SortedMap<String, Integer> random = randomWords(17, 3000, "中国人民海军家abc", 6);
+        String doc = String.join("", randomWords(18, 300, "中国人民海军家abcxy", 5).keySet());
+        for (int mode = 0; mode < 3; mode++) {
+            DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+            builder.setTailCompression(mode == 1);
+            builder.setAlphabetRemap(mode == 2);
+            Assert.assertEquals(0, builder.build(random));
+            DoubleArrayTrie t = builder.toTrie();
+            t.buildReverse();
+            Assert.assertEquals(naiveBackward(t, doc), segment(t, doc, SegmentMode.BACKWARD));
+        }
+    }
+
+    @Test
+    public void testBatchMatcher() {
+        DoubleArrayTrie trie = build(prepareWords());
+        List<String> docs = new ArrayList<>(randomWords(19, 2000, "我们中国人民海军家abc的12", 12).keySet());
+        Map<Integer, List<String>> results = new ConcurrentHashMap<>();
+        DocumentSink sink = (doc, text, hits) -> results.put(doc, toStrings(hits));
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            BatchMatcher batch = new BatchMatcher(trie, pool, 3);
+            batch.setBatchSize(7);
+            long expectedHits = 0;
+            for (String doc : docs) {
+                expectedHits += trie.matchAll(doc).size();
+            }
+            Assert.assertEquals(expectedHits, batch.match(docs, sink));
+            Assert.assertEquals(docs.size(), results.size());
+            for (int i = 0; i < docs.size(); i++) {
+                Assert.assertEquals(collect(trie, docs.get(i)), results.get(i));
+            }
+            Assert.assertEquals(docs.size(), batch.getDocumentCount());
+            Assert.assertEquals(expectedHits, batch.getHitCount());
+            Assert.assertTrue(batch.getCharCount() > 0);
+            Assert.assertTrue(batch.getDocumentsPerSecond() > 0);
+
+            // 迭代器输入, 统计累加
+            results.clear();
+            Assert.assertEquals(expectedHits, batch.match(docs.stream().iterator(), sink));
+            Assert.assertEquals(docs.size(), results.size());
+            Assert.assertEquals(docs.size() * 2, batch.getDocumentCount());
+            batch.resetStats();
+            Assert.assertEquals(0, batch.getHitCount());
+
+            // 回调出错时异常抛给调用者
+            try {
+                batch.match(docs, (doc, text, hits) -> {
+                    if (doc == 100) {
+                        throw new IllegalArgumentException("doc " + doc);
+                    }
+                });
+                Assert.fail();
+            } catch (IllegalArgumentException e) {
+                Assert.assertEquals("doc 100", e.getMessage());
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        results.clear();
+        new BatchMatcher(trie).match(docs, sink);
+        Assert.assertEquals(docs.size(), results.size());
+
+        // 匹配器不支持 reset 时每个文档重新创建
+        TextMatcher noReset = new TextMatcher() {
+            @Override
+            public int get(String key) {
+                return trie.get(key);
+            }
+
+            @Override
+            public int get(char[] key, int start, int end) {
+                return trie.get(key, start, end);
+            }
+
+            @Override
+            public SubMatcher newMatcher(String key, int start, int end, HitCallback callback) {
+                return withoutReset(trie.newMatcher(key, start, end, callback));
+            }
+
+            @Override
+            public SubMatcher newMatcher(char[] key, int start, int end, HitCallback callback) {
+                return withoutReset(trie.newMatcher(key, start, end, callback));
+            }
+        };
+        try {
+            noReset.newMatcher("abc", (off, len, value) -> true).reset("a", 0, 1);
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            // reset 是可选操作
+        }
+        results.clear();
+        new BatchMatcher(noReset).match(docs, sink);
+        for (int i = 0; i < docs.size(); i++) {
+            Assert.assertEquals(collect(trie, docs.get(i)), results.get(i));
+        }
+    }
+
+    private static SubMatcher withoutReset(SubMatcher matcher) {
+        return new SubMatcher() {
+            @Override
+            public int matchPrefix(int pos) {
+                return matcher.matchPrefix(pos);
+            }
+
+            @Override
+            public int matchAll(int pos) {
+                return matcher.matchAll(pos);
+            }
+        };
+    }
+
+    @Test
+    public void testParallelMatch() throws IOException {
+        SortedMap<String, Integer> words = randomWords(23, 3000, "中国人民海军家abc", 7);
+        words.put("中国人民海军家abc中国人民海军家abc", 99999);
+        StringBuilder sb = new StringBuilder();
+        for (String w : randomWords(24, 2000, "中国人民海军家abcxy", 9).keySet()) {
+            sb.append(w);
+        }
+        char[] text = sb.toString().toCharArray();
+
+        DoubleArrayTrie trie = build(words);
+        Assert.assertEquals(20, trie.getMaxKeyLength());
+        Assert.assertEquals(20, buildTail(words).getMaxKeyLength());
+        // 没有记录长度时遍历计算
+        DoubleArrayTrie copy = new DoubleArrayTrie();
+        copy.attach(trie.getCheck(), trie.getBase(), trie.getSize());
+        Assert.assertEquals(20, copy.getMaxKeyLength());
+        File file = folder.newFile("max.trie");
+        trie.save(file.getPath());
+        DoubleArrayTrie mapped = new DoubleArrayTrie();
+        mapped.openMapped(file.getPath());
+        Assert.assertEquals(20, mapped.getMaxKeyLength());
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int round = 0; round < 2; round++) {
+                if (round == 1) {
+                    trie.buildAhoCorasick();
+                }
+                HitBuffer expected = new HitBuffer();
+                trie.matchAll(text, 3, text.length - 5, expected);
+                for (int chunkSize : new int[]{1, 7, 19, 1000, text.length}) {
+                    HitBuffer hits = new HitBuffer();
+                    Assert.assertEquals(expected.size(), trie.matchAllParallel(text, 3, text.length - 5, pool, chunkSize, hits));
+                    Assert.assertEquals(toStrings(expected), toStrings(hits));
+
+                    ConcurrentLinkedQueue<String> all = new ConcurrentLinkedQueue<>();
+                    Assert.assertEquals(expected.size(), trie.matchAllParallel(text, 3, text.length - 5, pool, chunkSize,
+                            chunk -> (off, len, value) -> all.add(off + ":" + len + ":" + value)));
+                    Assert.assertEquals(sorted(toStrings(expected)), sorted(new ArrayList<>(all)));
+                }
+                // 回调返回 false 时停止
+                int[] seen = new int[1];
+                Assert.assertEquals(5, trie.matchAllParallel(text, 0, text.length, pool, 50, (off, len, value) -> ++seen[0] < 5));
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        trie.insert("家家家家家家家家家家家家家家家家家家家家家家家家家", 1);
+        Assert.assertEquals(25, trie.getMaxKeyLength());
+    }
+
+    static void feed(StreamMatcher matcher, String text, Random random) {
+        int pos = 0;
+        while (pos < text.length()) {
+            int n = Math.min(text.length() - pos, random.nextInt(40));
+            CharBuffer chunk = CharBuffer.wrap(text, pos, pos + n);
+            matcher.feed(chunk);
+            Assert.assertFalse(chunk.hasRemaining());
+            pos += n;
+            Assert.assertEquals(pos, matcher.position());
+        }
+        matcher.finish();
+    }
+
+    @Test
+    public void testStreamMatcher() throws IOException {
+        SortedMap<String, Integer> words = randomWords(29, 3000, "中国人民海军家abc", 7);
+        StringBuilder sb = new StringBuilder();
+        for (String w : randomWords(30, 3000, "中国人民海军家abcxy", 9).keySet()) {
+            sb.append(w);
+        }
+        String text = sb.toString();
+
+        for (int mode = 0; mode < 3; mode++) {
+            DoubleArrayTrie trie = mode == 1 ? buildTail(words) : build(words);
+            if (mode == 2) {
+                trie.buildAhoCorasick();
+            }
+            List<String> expected = toStrings(trie.matchAll(text));
+            List<String> hits = new ArrayList<>();
+            StreamMatcher matcher = trie.newStreamMatcher((off, len, value) -> hits.add(off + ":" + len + ":" + value));
+            feed(matcher, text, new Random(mode));
+            Assert.assertEquals(expected, hits);
+
+            // 重复使用, 从 Reader 读取
+            hits.clear();
+            matcher.reset();
+            Assert.assertEquals(expected.size(), matcher.matchAll(new StringReader(text)));
+            Assert.assertEquals(expected, hits);
+
+            // 回调返回 false 时停止
+            List<String> first = new ArrayList<>();
+            StreamMatcher stopping = trie.newStreamMatcher((off, len, value) -> first.add(off + ":" + len + ":" + value) && first.size() < 3);
+            stopping.matchAll(new StringReader(text));
+            Assert.assertEquals(expected.subList(0, 3), first);
+        }
+    }
+
+    @Test
+    public void testPayloads() throws IOException {
+        SortedMap<String, Integer> words = prepareWords();
+        List<byte[]> records = new ArrayList<>();
+        for (int i = 0; i < words.size(); i++) {
+            // 总字节数不是 4 的倍数, 保存时需要补齐
+            records.add(i == 3 ? null : ("n" + i + (i == 0 ? "!" : "")).getBytes(StandardCharsets.UTF_8));
+        }
+        PayloadStore store = PayloadStore.of(records);
+        Assert.assertEquals(words.size(), store.size());
+        Assert.assertEquals(0, store.length(3));
+        Assert.assertEquals("n11", new String(store.bytes(11), StandardCharsets.UTF_8));
+        Assert.assertFalse(store.contains(words.size()));
+
+        DoubleArrayTrie trie = build(words);
+        trie.buildAhoCorasick();
+        trie.setPayloads(store);
+        File file = folder.newFile("payload.trie");
+        trie.save(file.getPath());
+        DoubleArrayTrie loaded = new DoubleArrayTrie();
+        loaded.open(file.getPath());
+        DoubleArrayTrie mapped = new DoubleArrayTrie();
+        mapped.openMapped(file.getPath());
+
+        String text = "我们中国人民海军abc的国家b12";
+        char[] chars = text.toCharArray();
+        for (DoubleArrayTrie t : new DoubleArrayTrie[]{trie, loaded, mapped}) {
+            Assert.assertTrue(t.hasPayloads());
+            Assert.assertTrue(t.hasAhoCorasick());
+            PayloadStore p = t.getPayloads();
+            Assert.assertEquals(words.size(), p.size());
+            HitBuffer hits = new HitBuffer();
+            t.matchAll(chars, 0, chars.length, hits);
+            Assert.assertFalse(hits.isEmpty());
+            for (int i = 0; i < hits.size(); i++) {
+                int value = hits.value(i);
+                // 不分配对象, 直接按位置读取
+                ByteBuffer buffer = p.buffer();
+                int off = p.offset(value);
+                int len = p.length(value);
+                byte[] expected = records.get(value) == null ? new byte[0] : records.get(value);
+                Assert.assertEquals(expected.length, len);
+                for (int k = 0; k < len; k++) {
+                    Assert.assertEquals(expected[k], buffer.get(off + k));
+                }
+                Assert.assertEquals(ByteBuffer.wrap(expected), p.get(value));
+            }
+        }
+
+        trie.setPayloads(null);
+        trie.save(file.getPath());
+        loaded.open(file.getPath());
+        Assert.assertFalse(loaded.hasPayloads());
+    }
+
+    @Test
+    public void testComplete() throws IOException {
+        SortedMap<String, Integer> words = randomWords(31, 5000, "中国人民海军家abc", 7);
+        words.put("", 0);
+        // 重新编号, 值各不相同
+        int id = 0;
+        for (Map.Entry<String, Integer> e : words.entrySet()) {
+            e.setValue(e.getKey().isEmpty() ? words.size() - 1 : id++);
+        }
+        // 各不相同的权重, 结果顺序唯一
+        List<Integer> shuffled = new ArrayList<>();
+        for (int i = 0; i < words.size(); i++) {
+            shuffled.add(i * 3 - 7000);
+        }
+        Collections.shuffle(shuffled, new Random(32));
+        int[] weights = new int[words.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = shuffled.get(i);
+        }
+
+        List<String> prefixes = new ArrayList<>(Arrays.asList("", "中", "中国", "a", "x", "中x"));
+        Random random = new Random(33);
+        List<String> keys = new ArrayList<>(words.keySet());
+        for (int i = 0; i < 200; i++) {
+            String key = keys.get(random.nextInt(keys.size()));
+            prefixes.add(key.substring(0, random.nextInt(key.length() + 1)));
+        }
+
+        for (int mode = 0; mode < 4; mode++) {
+            DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+            builder.setTailCompression(mode == 1);
+            builder.setAlphabetRemap(mode == 2);
+            Assert.assertEquals(0, builder.build(words));
+            DoubleArrayTrie trie = builder.toTrie();
+            trie.buildCompletion(v -> weights[v]);
+            Assert.assertTrue(trie.hasCompletion());
+            if (mode == 3) {
+                File file = folder.newFile("complete.trie");
+                trie.save(file.getPath());
+                trie = new DoubleArrayTrie();
+                trie.openMapped(file.getPath());
+                Assert.assertTrue(trie.hasCompletion());
+            }
+            for (String prefix : prefixes) {
+                for (int k : new int[]{1, 5, 50}) {
+                    List<String> expected = new ArrayList<>();
+                    words.entrySet().stream()
+                            .filter(e -> e.getKey().startsWith(prefix))
+                            .sorted((a, b) -> Integer.compare(weights[b.getValue()], weights[a.getValue()]))
+                            .limit(k)
+                            .forEach(e -> expected.add(e.getKey() + "," + e.getValue() + ",0," + e.getKey().length()));
+                    List<String> actual = new ArrayList<>();
+                    for (Trie.TrieResult r : trie.complete(prefix, k)) {
+                        actual.add(r.toString());
+                    }
+                    Assert.assertEquals(prefix + " " + k, expected, actual);
+                }
+            }
+        }
+
+        // 修改后失效
+        DoubleArrayTrie trie = build(words);
+        trie.buildCompletion();
+        // 默认以值作为权重, 值最大的是空串
+        Assert.assertEquals("", trie.complete("", 1).get(0).word);
+        trie.insert("中国中国中国", 1);
+        Assert.assertFalse(trie.hasCompletion());
+    }
+
+    static int editDistance(String a, String b) {
+        int[] row = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            row[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            int diag = row[0];
+            row[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int d = Math.min(diag + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1), Math.min(row[j], row[j - 1]) + 1);
+                diag = row[j];
+                row[j] = d;
+            }
+        }
+        return row[b.length()];
+    }
+
+    @Test
+    public void testFuzzySearch() {
+        SortedMap<String, Integer> words = randomWords(37, 3000, "中国人民海军家abc", 7);
+        words.put("", 7777);
+        words.put("中国人民海军家abc中国人民海军家abc", 8888);
+        List<String> queries = new ArrayList<>(Arrays.asList("", "中", "中国人", "x", "中国人民海军家abc中国人民海军家abd"));
+        Random random = new Random(38);
+        List<String> keys = new ArrayList<>(words.keySet());
+        for (int i = 0; i < 100; i++) {
+            StringBuilder q = new StringBuilder(keys.get(random.nextInt(keys.size())));
+            // 随机改一两个字符
+            for (int k = random.nextInt(3); k > 0 && q.length() > 0; k--) {
+                q.setCharAt(random.nextInt(q.length()), "中国x".charAt(random.nextInt(3)));
+            }
+            queries.add(q.toString());
+        }
+
+        for (int mode = 0; mode < 3; mode++) {
+            DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+            builder.setTailCompression(mode == 1);
+            builder.setAlphabetRemap(mode == 2);
+            Assert.assertEquals(0, builder.build(words));
+            DoubleArrayTrie trie = builder.toTrie();
+            for (String query : queries) {
+                for (int max = 0; max <= 2; max++) {
+                    List<String> expected = new ArrayList<>();
+                    for (Map.Entry<String, Integer> e : words.entrySet()) {
+                        int d = editDistance(query, e.getKey());
+                        if (d <= max) {
+                            expected.add(e.getKey() + "," + e.getValue() + "," + d);
+                        }
+                    }
+                    List<String> actual = new ArrayList<>();
+                    int last = 0;
+                    for (FuzzyResult r : trie.fuzzySearch(query, max)) {
+                        Assert.assertTrue(r.distance >= last);
+                        last = r.distance;
+                        actual.add(r.toString());
+                    }
+                    Assert.assertEquals(query + " " + max, sorted(expected), sorted(actual));
+                }
+            }
+        }
+
+        // 修改后重新建立子节点索引
+        DoubleArrayTrie trie = build(words);
+        Assert.assertTrue(trie.fuzzySearch("江湖", 1).isEmpty());
+        trie.insert("江河", 1);
+        Assert.assertEquals("江河,1,1", trie.fuzzySearch("江湖", 1).get(0).toString());
+    }
+
+    @Test
+    public void testCharFolding() throws IOException {
+        CharFolding folding = new CharFolding().fullWidthToHalfWidth().lowerCase().map("國", "国");
+        Assert.assertEquals("abc 国1", folding.fold("ＡBｃ　國１"));
+        // map 的目标字符经过已有的映射, 覆盖 from 原来的映射
+        CharFolding custom = new CharFolding().fullWidthToHalfWidth().lowerCase().map('Q', 'Ｘ');
+        Assert.assertEquals("xqx", custom.fold("QqＸ"));
+
+        SortedMap<String, Integer> words = new TreeMap<>();
+        words.put("ABC", 0);
+        words.put("中國", 1);
+        words.put("中国人", 2);
+        words.put("ｘｙz", 3);
+        words.put("q", 4);
+        String text = "Ｑ中國人ａｂｃ和XYZ";
+        String expected = "[0,1,4, 1,2,1, 1,3,2, 4,3,0, 8,3,3]";
+
+        for (int mode = 0; mode < 3; mode++) {
+            DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+            builder.setFolding(folding);
+            builder.setTailCompression(mode == 1);
+            builder.setAlphabetRemap(mode == 2);
+            Assert.assertEquals(0, builder.build(words));
+            DoubleArrayTrie trie = builder.toTrie();
+            if (mode != 1) {
+                trie.buildAhoCorasick();
+            }
+            File file = folder.newFile("folding" + mode + ".trie");
+            trie.save(file.getPath());
+            DoubleArrayTrie mapped = new DoubleArrayTrie();
+            mapped.openMapped(file.getPath());
+
+            for (DoubleArrayTrie t : new DoubleArrayTrie[]{trie, mapped}) {
+                Assert.assertTrue(t.hasFolding());
+                // 命中位置是原文中的位置
+                char[] chars = text.toCharArray();
+                HitBuffer hits = new HitBuffer();
+                t.matchAll(chars, 0, chars.length, hits);
+                Assert.assertEquals(expected, hits(hits));
+                Assert.assertEquals("ａｂｃ", hits.word(text, 3));
+                Assert.assertEquals(2, t.exactMatchSearch("中国人"));
+                Assert.assertEquals(1, t.exactMatchSearch("中國"));
+                Assert.assertEquals(0, t.exactMatchSearch("ａＢc"));
+                Assert.assertEquals(-1, t.exactMatchSearch("ab"));
+            }
+        }
+
+        // 保存后打开的倒序 trie 同样归一化
+        SortedMap<String, Integer> abc = new TreeMap<>();
+        abc.put("abc", 0);
+        abc.put("bcd", 1);
+        abc.put("cd", 2);
+        DoubleArrayTrieBuilder lower = new DoubleArrayTrieBuilder();
+        lower.setFolding(new CharFolding().lowerCase());
+        Assert.assertEquals(0, lower.build(abc));
+        DoubleArrayTrie reversed = lower.toTrie();
+        reversed.buildReverse();
+        HitBuffer before = new HitBuffer();
+        reversed.segment("ABCD", SegmentMode.BACKWARD, before);
+        Assert.assertEquals("[0,1,-1, 1,3,1]", hits(before));
+        File reverseFile = folder.newFile("folding-reverse.trie");
+        reversed.save(reverseFile.getPath());
+        DoubleArrayTrie opened = new DoubleArrayTrie();
+        opened.open(reverseFile.getPath());
+        DoubleArrayTrie mapped = new DoubleArrayTrie();
+        mapped.openMapped(reverseFile.getPath());
+        for (DoubleArrayTrie t : new DoubleArrayTrie[]{opened, mapped}) {
+            HitBuffer after = new HitBuffer();
+            t.segment("ABCD", SegmentMode.BACKWARD, after);
+            Assert.assertEquals(hits(before), hits(after));
+        }
+
+        // 直接查询未归一化的文本也能找到, insert 的 key 同样归一化
+        DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+        builder.setFolding(folding);
+        builder.build(words);
+        DoubleArrayTrie trie = builder.toTrie();
+        trie.insert("ＤＥ", 5);
+        Assert.assertEquals(5, trie.exactMatchSearch("de"));
+        Assert.assertEquals("[de,5,0]", trie.fuzzySearch("DE", 0).toString());
+        // 归一化后重复的 key 以后一个为准
+        words.put("abc", 9);
+        builder.clear();
+        builder.build(words);
+        Assert.assertEquals(9, builder.toTrie().exactMatchSearch("ABC"));
+
+        DoubleArrayTrie plain = build(words);
+        Assert.assertFalse(plain.hasFolding());
+        Assert.assertNull(plain.getFolding());
+    }
+
+    private static String hits(HitBuffer hits) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < hits.size(); i++) {
+            sb.append(i == 0 ? "" : ", ").append(hits.offset(i)).append(',').append(hits.length(i)).append(',').append(hits.value(i));
+        }
+        return sb.append(']').toString();
+    }
+
+    @Test
+    public void testFileFormat() throws Exception {
+        SortedMap<String, Integer> words = randomWords(41, 3000, "abcdefg中国人民海军", 8);
+        String text = "abcdefg中国人民海军gfedcba海军中国abcabcabc";
+        for (int mode = 0; mode < 2; mode++) {
+            DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+            builder.setTailCompression(mode == 1);
+            builder.setAlphabetRemap(mode == 1);
+            builder.build(words);
+            DoubleArrayTrie trie = builder.toTrie();
+            if (mode == 0) {
+                trie.buildAhoCorasick();
+                trie.buildReverse();
+                trie.buildCompletion();
+            }
+            File file = folder.newFile("format" + mode + ".trie");
+            trie.save(file.getPath());
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            Assert.assertArrayEquals(new byte[]{(byte) 0x89, 'D', 'A', 'T'}, Arrays.copyOf(bytes, 4));
+
+            DoubleArrayTrie opened = new DoubleArrayTrie();
+            opened.open(file.getPath());
+            DoubleArrayTrie mapped = new DoubleArrayTrie();
+            mapped.openMapped(file.getPath());
+            DoubleArrayTrie loaded = new DoubleArrayTrie();
+            loaded.load(new DataInputStream(new ByteArrayInputStream(bytes)));
+            // write 的输出和 save 的文件相同
+            ByteArrayOutputStream written = new ByteArrayOutputStream();
+            trie.write(new DataOutputStream(written));
+            Assert.assertArrayEquals(bytes, written.toByteArray());
+            ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+                out.writeObject(trie);
+            }
+            DoubleArrayTrie deserialized;
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized.toByteArray()))) {
+                deserialized = (DoubleArrayTrie) in.readObject();
+            }
+            for (DoubleArrayTrie t : new DoubleArrayTrie[]{opened, mapped, loaded, deserialized}) {
+                Assert.assertEquals(trie.getMaxKeyLength(), t.getMaxKeyLength());
+                Assert.assertEquals(trie.hasAhoCorasick(), t.hasAhoCorasick());
+                Assert.assertEquals(trie.hasReverse(), t.hasReverse());
+                Assert.assertEquals(trie.hasCompletion(), t.hasCompletion());
+                Assert.assertArrayEquals(trie.getBase(), t.getBase());
+                Assert.assertArrayEquals(trie.getCheck(), t.getCheck());
+                assertSameLookups(trie, t, words, text);
+            }
+
+            // 数据部分损坏, 读入时校验失败
+            bytes[bytes.length / 2] ^= 1;
+            Files.write(file.toPath(), bytes);
+            try {
+                new DoubleArrayTrie().open(file.getPath());
+                Assert.fail();
+            } catch (IOException e) {
+                Assert.assertTrue(e.getMessage().contains("checksum"));
+            }
+            // 文件头损坏, 映射时也能发现
+            bytes[bytes.length / 2] ^= 1;
+            bytes[9] ^= 1;
+            Files.write(file.toPath(), bytes);
+            try {
+                new DoubleArrayTrie().openMapped(file.getPath());
+                Assert.fail();
+            } catch (IOException e) {
+                Assert.assertTrue(e.getMessage().contains("checksum"));
+            }
+        }
+
+        // 旧格式: big-endian 的 [单元个数] [base check]*
+        DoubleArrayTrie trie = build(words);
+        int[] base = trie.getBase();
+        int[] check = trie.getCheck();
+        ByteArrayOutputStream legacy = new ByteArrayOutputStream();
+        DataOutputStream legacyOut = new DataOutputStream(legacy);
+        legacyOut.writeInt(base.length);
+        for (int i = 0; i < base.length; i++) {
+            legacyOut.writeInt(base[i]);
+            legacyOut.writeInt(check[i]);
+        }
+        File file = folder.newFile("legacy.trie");
+        Files.write(file.toPath(), legacy.toByteArray());
+
+        DoubleArrayTrie opened = new DoubleArrayTrie();
+        opened.open(file.getPath());
+        DoubleArrayTrie mapped = new DoubleArrayTrie();
+        mapped.openMapped(file.getPath());
+        for (DoubleArrayTrie t : new DoubleArrayTrie[]{opened, mapped}) {
+            assertSameLookups(trie, t, words, text);
+            Assert.assertEquals(trie.getMaxKeyLength(), t.getMaxKeyLength());
+        }
+        // 另存后是新格式
+        opened.save(file.getPath());
+        Assert.assertEquals((byte) 0x89, Files.readAllBytes(file.toPath())[0]);
+        mapped.openMapped(file.getPath());
+        assertSameLookups(trie, mapped, words, text);
+
+        // 流中的旧格式只读到单元为止, 后面调用方自己的数据不受影响
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(stream);
+        out.write(legacy.toByteArray());
+        out.writeInt(7);
+        out.writeUTF("trailer");
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(stream.toByteArray()));
+        DoubleArrayTrie loaded = new DoubleArrayTrie();
+        loaded.load(in);
+        Assert.assertEquals(7, in.readInt());
+        Assert.assertEquals("trailer", in.readUTF());
+        assertSameLookups(trie, loaded, words, text);
+        Assert.assertEquals(trie.getMaxKeyLength(), loaded.getMaxKeyLength());
+        // 新格式同样
+        stream.reset();
+        trie.write(out);
+        out.writeInt(7);
+        out.writeUTF("trailer");
+        in = new DataInputStream(new ByteArrayInputStream(stream.toByteArray()));
+        loaded.load(in);
+        Assert.assertEquals(7, in.readInt());
+        Assert.assertEquals("trailer", in.readUTF());
+        assertSameLookups(trie, loaded, words, text);
+    }
+
+    @Test
+    public void testBatchGet() throws IOException {
+        SortedMap<String, Integer> words = randomWords(43, 3000, "abcdefg中国人民海军", 8);
+        List<CharSequence> keys = new ArrayList<>();
+        Random random = new Random(44);
+        for (String word : words.keySet()) {
+            keys.add(word);
+            // 前缀、多一个字符、换掉最后一个字符, 大多不在词表中
+            keys.add(word.substring(0, random.nextInt(word.length())));
+            keys.add(new StringBuilder(word).append('a'));
+            keys.add(word.substring(0, word.length() - 1) + "民");
+        }
+        keys.add("");
+        keys.add("xyz");
+        Collections.shuffle(keys, random);
+        CharSequence[] queries = keys.toArray(new CharSequence[0]);
+
+        for (int mode = 0; mode < 3; mode++) {
+            DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+            builder.setTailCompression(mode == 1);
+            builder.setAlphabetRemap(mode == 1);
+            builder.build(words);
+            DoubleArrayTrie trie = builder.toTrie();
+            if (mode == 2) {
+                File file = folder.newFile("batch.trie");
+                trie.save(file.getPath());
+                trie = new DoubleArrayTrie();
+                trie.openMapped(file.getPath());
+            }
+            int[] out = new int[queries.length];
+            int found = trie.get(queries, out);
+            int expected = 0;
+            for (int i = 0; i < queries.length; i++) {
+                int value = trie.get(queries[i].toString());
+                Assert.assertEquals(queries[i].toString(), value, out[i]);
+                if (value >= 0) {
+                    expected++;
+                }
+            }
+            Assert.assertEquals(expected, found);
+
+            // 只查询一段, 其余位置不变; 比通道数少的批量
+            Arrays.fill(out, -2);
+            trie.get(queries, 5, 8, out);
+            for (int i = 0; i < queries.length; i++) {
+                int value = i >= 5 && i < 8 ? trie.get(queries[i].toString()) : -2;
+                Assert.assertEquals(value, out[i]);
+            }
+        }
+
+        int[] out = {7, 7};
+        Assert.assertEquals(0, new DoubleArrayTrie().get(new CharSequence[]{"a", ""}, out));
+        Assert.assertArrayEquals(new int[]{-1, -1}, out);
+    }
+
+    @Test
+    public void testBloomFilter() throws IOException {
+        SortedMap<String, Integer> words = randomWords(45, 3000, "abcdefg中国人民海军", 8);
+        Set<String> distinct = new LinkedHashSet<>();
+        Random random = new Random(46);
+        while (distinct.size() < 20000) {
+            char[] c = new char[1 + random.nextInt(8)];
+            for (int i = 0; i < c.length; i++) {
+                c[i] = "abcdefg中国人民海军xyz".charAt(random.nextInt(15));
+            }
+            String s = new String(c);
+            if (!words.containsKey(s)) {
+                distinct.add(s);
+            }
+        }
+        List<String> misses = new ArrayList<>(distinct);
+        CharFolding folding = new CharFolding().fullWidthToHalfWidth();
+
+        for (int mode = 0; mode < 3; mode++) {
+            DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+            builder.setTailCompression(mode == 1);
+            builder.setAlphabetRemap(mode == 1);
+            builder.setFolding(mode == 2 ? folding : null);
+            builder.build(words);
+            DoubleArrayTrie plain = builder.toTrie();
+            builder.setBloomFilter(0.01);
+            DoubleArrayTrie trie = builder.toTrie();
+            Assert.assertFalse(plain.hasBloomFilter());
+            Assert.assertTrue(trie.hasBloomFilter());
+            Assert.assertTrue(trie.getBloomFilterSize() > 0);
+            double rate = trie.getBloomFalsePositiveRate();
+            Assert.assertTrue(String.valueOf(rate), rate > 0 && rate < 0.03);
+
+            File file = folder.newFile("bloom" + mode + ".trie");
+            trie.save(file.getPath());
+            DoubleArrayTrie opened = new DoubleArrayTrie();
+            opened.open(file.getPath());
+            DoubleArrayTrie mapped = new DoubleArrayTrie();
+            mapped.openMapped(file.getPath());
+            for (DoubleArrayTrie t : new DoubleArrayTrie[]{trie, opened, mapped}) {
+                Assert.assertTrue(t.hasBloomFilter());
+                Assert.assertEquals(rate, t.getBloomFalsePositiveRate(), 1e-12);
+                // 过滤器不会漏掉存在的词, 不存在的词结果也不变
+                assertSameLookups(plain, t, words, "abcdefg中国人民海军gfedcba");
+                for (String word : words.keySet()) {
+                    String query = mode == 2 ? word.replace('a', 'ａ') : word;
+                    Assert.assertEquals(plain.get(query), t.get(query));
+                    char[] chars = ("x" + query + "x").toCharArray();
+                    Assert.assertEquals(plain.get(query), t.get(chars, 1, chars.length - 1));
+                }
+                CharSequence[] queries = misses.toArray(new CharSequence[0]);
+                int[] out = new int[queries.length];
+                Assert.assertEquals(0, t.get(queries, out));
+                for (String miss : misses) {
+                    Assert.assertEquals(-1, t.exactMatchSearch(miss));
+                }
+            }
+        }
+
+        // insert 后新词同样能查到, remove 后过滤器仍然可用
+        DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+        builder.setBloomFilter(0.01);
+        builder.build(words);
+        DoubleArrayTrie trie = builder.toTrie();
+        for (int i = 0; i < 1000; i++) {
+            trie.insert(misses.get(i), i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(i, trie.get(misses.get(i)));
+        }
+        for (String word : words.keySet()) {
+            trie.remove(word);
+            Assert.assertEquals(-1, trie.get(word));
+        }
+        Assert.assertTrue(trie.hasBloomFilter());
+        Assert.assertEquals(999, trie.get(misses.get(999)));
+
+        try {
+            builder.setBloomFilter(1);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // 误判率必须小于 1
+        }
+    }
+
+    @Test
+    public void testStartChars() throws IOException {
+        SortedMap<String, Integer> words = randomWords(47, 2000, "abcdefg中国人民海军", 6);
+        Random random = new Random(48);
+        String noise = "，。 0123456789xyｚ";
+        String letters = "abcdefg中国人民海军ａｂ";
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 5000) {
+            String from = random.nextBoolean() ? noise : letters;
+            sb.append(from.charAt(random.nextInt(from.length())));
+        }
+        String text = sb.toString();
+        char[] chars = text.toCharArray();
+        CharFolding folding = new CharFolding().fullWidthToHalfWidth();
+
+        for (int mode = 0; mode < 4; mode++) {
+            DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+            builder.setTailCompression(mode == 1);
+            builder.setAlphabetRemap(mode == 1);
+            builder.setFolding(mode == 2 ? folding : null);
+            builder.build(words);
+            DoubleArrayTrie trie = builder.toTrie();
+            if (mode == 2) {
+                File file = folder.newFile("starts.trie");
+                trie.save(file.getPath());
+                trie = new DoubleArrayTrie();
+                trie.openMapped(file.getPath());
+            } else if (mode == 3) {
+                trie.buildAhoCorasick();
+            }
+            assertSkipsOnlyNonStarts(trie, text, chars);
+            if (mode == 0) {
+                // 新词以不在位图中的字符开头, 修改后位图重新构建
+                Assert.assertEquals(-1, trie.insert("yｚ", 9999));
+                Assert.assertTrue(collect(trie, text).size() > 0);
+                assertSkipsOnlyNonStarts(trie, text, chars);
+                Assert.assertTrue(trie.matchAll(text).toString().contains("yｚ"));
+            }
+        }
+    }
+
+    /**
+     * 跳过不能作为词首的位置不影响结果: 和逐个位置 commonPrefixSearch 的结果相同
+     */
+    private static void assertSkipsOnlyNonStarts(DoubleArrayTrie trie, String text, char[] chars) {
+        List<String> expected = new ArrayList<>();
+        String first = null;
+        for (int i = 0; i < chars.length; i++) {
+            List<String> hits = new ArrayList<>();
+            trie.commonPrefixSearch(chars, i, chars.length, (off, len, value) -> hits.add(off + ":" + len + ":" + value));
+            if (first == null && !hits.isEmpty()) {
+                first = hits.get(hits.size() - 1);
+            }
+            expected.addAll(hits);
+        }
+        List<String> actual = collect(trie, text);
+        List<String> array = new ArrayList<>();
+        trie.matchAll(chars, 0, chars.length, (off, len, value) -> array.add(off + ":" + len + ":" + value));
+        Collections.sort(expected);
+        Collections.sort(actual);
+        Collections.sort(array);
+        Assert.assertFalse(expected.isEmpty());
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(expected, array);
+
+        Trie.TrieResult one = trie.matchOne(chars, 0, chars.length);
+        Assert.assertEquals(first, one.offset + ":" + one.len + ":" + one.value);
+
+        // 起止位置不在 64 的整数倍上
+        int from = 37, to = chars.length - 11;
+        List<String> part = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            trie.commonPrefixSearch(chars, i, to, (off, len, value) -> part.add(off + ":" + len + ":" + value));
+        }
+        List<String> partActual = new ArrayList<>();
+        trie.matchAll(chars, from, to, (off, len, value) -> partActual.add(off + ":" + len + ":" + value));
+        Collections.sort(part);
+        Collections.sort(partActual);
+        Assert.assertEquals(part, partActual);
+    }
+
+    @Test
+    public void testKeyIndex() throws IOException {
+        // 值是连续编号; 字母表中有单独的代理字符, 检查逐个 char 倒序
+        SortedMap<String, Integer> words = new TreeMap<>();
+        for (String word : randomWords(49, 3000, "abcdefg中国人民海军\uD840\uDC00", 8).keySet()) {
+            words.put(word, words.size());
+        }
+        CharFolding folding = new CharFolding().fullWidthToHalfWidth();
+
+        for (int mode = 0; mode < 3; mode++) {
+            DoubleArrayTrieBuilder builder = new DoubleArrayTrieBuilder();
+            builder.setTailCompression(mode == 1);
+            builder.setAlphabetRemap(mode == 1);
+            builder.setFolding(mode == 2 ? folding : null);
+            builder.build(words);
+            DoubleArrayTrie trie = builder.toTrie();
+            Assert.assertFalse(trie.hasKeyIndex());
+            Assert.assertEquals(0, trie.getKeyIndexSize());
+            try {
+                trie.keyOf(0);
+                Assert.fail();
+            } catch (IllegalStateException e) {
+                // 需要先 buildKeyIndex
+            }
+            trie.buildKeyIndex();
+            Assert.assertTrue(trie.hasKeyIndex());
+            Assert.assertEquals(4 * (1 + words.size() + trie.getSize()), trie.getKeyIndexSize());
+
+            File file = folder.newFile("keys" + mode + ".trie");
+            trie.save(file.getPath());
+            DoubleArrayTrie opened = new DoubleArrayTrie();
+            opened.open(file.getPath());
+            DoubleArrayTrie mapped = new DoubleArrayTrie();
+            mapped.openMapped(file.getPath());
+            for (DoubleArrayTrie t : new DoubleArrayTrie[]{trie, opened, mapped}) {
+                Assert.assertTrue(t.hasKeyIndex());
+                StringBuilder sb = new StringBuilder();
+                for (Map.Entry<String, Integer> e : words.entrySet()) {
+                    Assert.assertEquals(e.getKey(), t.keyOf(e.getValue()));
+                    sb.setLength(0);
+                    sb.append('x');
+                    Assert.assertTrue(t.appendKey(e.getValue(), sb));
+                    Assert.assertEquals("x" + e.getKey(), sb.toString());
+                }
+                Assert.assertNull(t.keyOf(-1));
+                Assert.assertNull(t.keyOf(words.size()));
+                sb.setLength(0);
+                Assert.assertFalse(t.appendKey(words.size(), sb));
+                Assert.assertEquals(0, sb.length());
+            }
+        }
+
+        // 修改后索引失效, 重新构建后包含新词, 删除的词查不到
+        DoubleArrayTrie trie = build(words);
+        trie.buildKeyIndex();
+        Assert.assertEquals(-1, trie.insert("海军新词", words.size()));
+        Assert.assertFalse(trie.hasKeyIndex());
+        String removed = words.firstKey();
+        Assert.assertEquals((int) words.get(removed), trie.remove(removed));
+        trie.buildKeyIndex();
+        Assert.assertEquals("海军新词", trie.keyOf(words.size()));
+        Assert.assertNull(trie.keyOf(words.get(removed)));
+        Assert.assertEquals(words.lastKey(), trie.keyOf(words.get(words.lastKey())));
+    }
+}